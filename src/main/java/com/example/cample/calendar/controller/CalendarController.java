@@ -3,17 +3,21 @@ package com.example.cample.calendar.controller;
 
 import com.example.cample.calendar.dto.CalendarEventDto;
 import com.example.cample.calendar.service.CalendarService;
+import com.example.cample.common.concurrent.FanOut;
 import com.example.cample.place.domain.Place;
-import com.example.cample.place.domain.PlaceType;
+import com.example.cample.place.dto.PlaceSummaryDto;
 import com.example.cample.place.repo.PlaceRepository;
+import com.example.cample.place.service.PlaceLocationResolver;
 import com.example.cample.security.model.CustomUserPrincipal;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
@@ -28,6 +32,15 @@ public class CalendarController {
 
     private final CalendarService service;
     private final PlaceRepository placeRepository;
+    private final FanOut fanOut;
+    private final PlaceLocationResolver locationResolver;
+
+    // 홈 요약/맵 화면의 하위 조회 마감: 일정 목록 / 그 외(D-Day, 장소)
+    @Value("${app.calendar.fanout.events-timeout:PT2S}")
+    private Duration eventsTimeout;
+
+    @Value("${app.calendar.fanout.aux-timeout:PT1S}")
+    private Duration auxTimeout;
 
     @GetMapping(value = "/events", params = {"from","to"})
     public List<CalendarEventDto> list(
@@ -104,7 +117,18 @@ public class CalendarController {
                 ? asOf
                 : (date != null ? LocalDateTime.of(target, LocalTime.now(KST)) : LocalDateTime.now(KST));
 
-        var items = service.list(from, to, me.getId());
+        // 서로 독립적인 조회를 동시에 시작(마감 초과/실패 시 해당 부분만 빈 값)
+        Long userId = me.getId();
+        var itemsF = fanOut.submit("summaryToday", "events", eventsTimeout, List.<CalendarEventDto>of(),
+                () -> service.list(from, to, userId));
+        var importantF = fanOut.submit("summaryToday", "importantUpcoming", auxTimeout, List.<CalendarEventDto>of(),
+                () -> service.importantUpcoming(userId, pivot));
+        var placesF = fanOut.submit("summaryToday", "places", auxTimeout, List.<Place>of(),
+                this::locatedPlaces);
+        var studyF = fanOut.submit("summaryToday", "studyPlaces", auxTimeout, List.<PlaceSummaryDto>of(),
+                () -> service.getStudyPlaces(lat, lon));
+
+        var items = itemsF.join();
 
         // LECTURE
         var lectures = items.stream()
@@ -137,7 +161,7 @@ public class CalendarController {
                 })
                 .toList();
 
-        var importantUpcoming = service.importantUpcoming(me.getId(), pivot);
+        var importantUpcoming = importantF.join();
         var ddays = importantUpcoming.stream()
                 .map(e -> {
                     long d = ChronoUnit.DAYS.between(pivot.toLocalDate(), e.getStartAt().toLocalDate());
@@ -150,8 +174,8 @@ public class CalendarController {
                 })
                 .toList();
 
-        var placeMarkers = buildPlaceMarkers(items);
-        var studyPlaces = service.getStudyPlaces(lat, lon);
+        var placeMarkers = buildPlaceMarkers(items, placesF.join());
+        var studyPlaces = studyF.join();
 
         return Map.of(
                 "date", target.toString(),
@@ -188,7 +212,15 @@ public class CalendarController {
                 ? asOf
                 : (date != null ? LocalDateTime.of(target, LocalTime.now(KST)) : LocalDateTime.now(KST));
 
-        var items = service.list(from, to, me.getId());
+        Long userId = me.getId();
+        var itemsF = fanOut.submit("mapOverview", "events", eventsTimeout, List.<CalendarEventDto>of(),
+                () -> service.list(from, to, userId));
+        var placesF = fanOut.submit("mapOverview", "places", auxTimeout, List.<Place>of(),
+                this::locatedPlaces);
+        var nearbyF = fanOut.submit("mapOverview", "nearbyPlaces", auxTimeout, List.<PlaceSummaryDto>of(),
+                () -> service.getNearbyPlaces(lat, lon, 3));
+
+        var items = itemsF.join();
 
         var lectures = items.stream()
                 .filter(e -> e.getType() != null && e.getType().name().equals("LECTURE"))
@@ -222,7 +254,7 @@ public class CalendarController {
                 })
                 .toList();
 
-        var placeMarkers = buildPlaceMarkers(items);
+        var placeMarkers = buildPlaceMarkers(items, placesF.join());
 
         var pastEvents = new ArrayList<Map<String, Object>>();
         var upcomingEvents = new ArrayList<Map<String, Object>>();
@@ -249,7 +281,7 @@ public class CalendarController {
             }
         }
 
-        var nearbyPlaces = service.getNearbyPlaces(lat, lon, 3);
+        var nearbyPlaces = nearbyF.join();
 
         return Map.of(
                 "date", target.toString(),
@@ -263,120 +295,43 @@ public class CalendarController {
         );
     }
 
-    // "[H01] 이학관 307" -> "[H01] 이학관"
-    // "[H07] 연암도서관" / "[H7] 연암도서관" -> "[H07] 연암도서관"
-    // "세이커피" -> "세이커피"
-    private String extractMarkerKey(String location) {
-        if (location == null) return "";
-        String trimmed = location.trim();
-        if (trimmed.isEmpty()) return "";
-
-        trimmed = normalizeBuildingCode(trimmed);
-
-        String[] parts = trimmed.split("\\s+");
-        if (parts.length == 1) {
-            return trimmed;
-        }
-
-        String last = parts[parts.length - 1];
-
-        if (last.matches(".*\\d.*")) {
-            StringBuilder sb = new StringBuilder();
-            for (int i = 0; i < parts.length - 1; i++) {
-                if (i > 0) sb.append(' ');
-                sb.append(parts[i]);
-            }
-            return sb.toString().trim();
-        }
-
-        return trimmed;
-    }
-
-    // "[H7] 연암도서관" -> "[H07] 연암도서관"
-    private String normalizeBuildingCode(String s) {
-        int endBracket = s.indexOf(']');
-        if (s.startsWith("[H") && endBracket > 2) {
-            String num = s.substring(2, endBracket);
-            if (num.length() == 1) {
-                String padded = "[H0" + num + "]";
-                return padded + s.substring(endBracket + 1);
-            }
-        }
-        return s;
-    }
-
-    // "[H01] 공학관" -> "공학관"
-    // "공학관"       -> "공학관"
-    private String stripBuildingCode(String name) {
-        if (name == null) return "";
-        String trimmed = name.trim();
-        if (trimmed.isEmpty()) return "";
-        if (trimmed.startsWith("[") && trimmed.contains("]")) {
-            int idx = trimmed.indexOf(']');
-            if (idx >= 0 && idx + 1 < trimmed.length()) {
-                return trimmed.substring(idx + 1).trim();
-            }
-        }
-        return trimmed;
-    }
-
-    private List<Map<String, Object>> buildPlaceMarkers(List<CalendarEventDto> items) {
-
-        // 강의(LECTURE) + SCHOOL + PERSONAL 전부 포함, 위치 있는 것만
-        List<CalendarEventDto> located = items.stream()
-                .filter(e -> e.getLocation() != null && !e.getLocation().isBlank())
-                .toList();
-        if (located.isEmpty()) {
-            return List.of();
-        }
-
-        // 좌표가 있는 전체 Place (캠퍼스 건물 + 식당/카페/술집 등)
-        List<Place> places = placeRepository.findAll().stream()
+    // 좌표가 있는 전체 Place (캠퍼스 건물 + 식당/카페/술집 등)
+    private List<Place> locatedPlaces() {
+        return placeRepository.findAll().stream()
                 .filter(p -> p.getLatitude() != null && p.getLongitude() != null)
                 .toList();
-        if (places.isEmpty()) {
-            return List.of();
-        }
-
-        // 1) 이름 그대로 매핑 (학사반점, 세이커피, [H01] 이학관 등)
-        Map<String, Place> byExactName = new HashMap<>();
-        for (Place p : places) {
-            byExactName.putIfAbsent(p.getName(), p);
-        }
+    }
 
-        // 2) 캠퍼스 건물만 코드 제거 후 매핑 (공학관, 이학관 등)
-        Map<String, Place> byPlainBuildingName = new HashMap<>();
-        for (Place p : places) {
-            if (p.getType() == PlaceType.CAMPUS_BUILDING) {
-                String plain = stripBuildingCode(p.getName());
-                if (!plain.isEmpty()) {
-                    byPlainBuildingName.putIfAbsent(plain, p);
-                }
-            }
+    // 강의(LECTURE) + SCHOOL + PERSONAL 전부 포함. 일정마다 저장 시 풀어 둔 placeId 로 집계
+    private List<Map<String, Object>> buildPlaceMarkers(List<CalendarEventDto> items, List<Place> places) {
+        if (items.isEmpty() || places.isEmpty()) {
+            return List.of();
         }
+        Map<Long, Place> byId = new HashMap<>(places.size() * 2);
+        for (Place p : places) byId.put(p.getId(), p);
 
-        // placeId 기준 집계
+        // placeId 기준 집계(처음 나온 순서 유지)
         Map<Long, Map<String, Object>> agg = new LinkedHashMap<>();
-
-        for (CalendarEventDto e : located) {
-            String loc = e.getLocation().trim();
-            String base = extractMarkerKey(loc);   // "[H01] 이학관", "이학관", "학사반점"
-
-            Place place = byExactName.get(base);
-            if (place == null) {
-                String plainKey = stripBuildingCode(base);
-                place = byPlainBuildingName.get(plainKey);
+        for (CalendarEventDto e : items) {
+            Long placeId = e.getPlaceId();
+            // 백필 전 행/이후 추가된 장소: 위치 문자열로 (캐시된) 해석
+            if (placeId == null) placeId = locationResolver.resolve(e.getLocation());
+            Place place = (placeId != null) ? byId.get(placeId) : null;
+            // 저장된 placeId 의 장소가 삭제됐으면 위치 문자열로 다시 해석
+            if (place == null && e.getPlaceId() != null) {
+                placeId = locationResolver.resolve(e.getLocation());
+                place = (placeId != null) ? byId.get(placeId) : null;
             }
             if (place == null) continue;
 
-            Map<String, Object> mm = agg.get(place.getId());
+            Map<String, Object> mm = agg.get(placeId);
             if (mm == null) {
                 mm = new LinkedHashMap<>();
                 mm.put("name", place.getName());
                 mm.put("latitude", place.getLatitude());
                 mm.put("longitude", place.getLongitude());
                 mm.put("count", 0);
-                agg.put(place.getId(), mm);
+                agg.put(placeId, mm);
             }
             int cnt = (int) mm.get("count");
             mm.put("count", cnt + 1);
@@ -14,7 +14,9 @@ import java.time.LocalDateTime;
         indexes = {
                 @Index(name = "idx_event_range", columnList = "startAt,endAt"),
                 @Index(name = "idx_owner_start", columnList = "ownerId,startAt"),
-                @Index(name = "idx_type_start", columnList = "type,startAt"),
+                // 학사 일정 스냅샷 fingerprint / 개인 기간 조회(findIntersectForOwner)
+                @Index(name = "idx_type_start_end", columnList = "type,startAt,endAt"),
+                @Index(name = "idx_owner_type_start_end", columnList = "ownerId,type,startAt,endAt"),
                 @Index(name = "idx_owner_important_start", columnList = "ownerId,important,startAt")
         }
 )
@@ -48,6 +50,9 @@ public class CalendarEvent {
     @Column(length = 100)
     private String location;
 
+    // location 을 저장 시점에 풀어 둔 장소 id(PlaceLocationResolver). 매칭 없으면 NULL
+    private Long placeId;
+
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, length = 16)
     private EventCategory category;
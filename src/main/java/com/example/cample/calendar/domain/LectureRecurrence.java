@@ -0,0 +1,67 @@
+// src/main/java/com/example/cample/calendar/domain/LectureRecurrence.java
+package com.example.cample.calendar.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+
+/**
+ * 시간표 강의의 주간 반복 일정(슬롯 하나당 한 행).
+ * 회차는 저장하지 않고 조회 범위에 맞춰 [startDate, endDate] 안의 매주 dayOfWeek 로 펼친다.
+ */
+@Entity
+@Table(
+        name = "lecture_recurrences",
+        indexes = {
+                @Index(name = "idx_lr_owner_range", columnList = "ownerId,startDate,endDate"),
+                @Index(name = "idx_lr_item", columnList = "timetableItemId")
+        }
+)
+@Getter @Setter
+@NoArgsConstructor @AllArgsConstructor
+@Builder
+public class LectureRecurrence {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long ownerId;
+
+    @Column(nullable = false)
+    private Long timetableItemId;
+
+    @Column(nullable = false, length = 100)
+    private String title;
+
+    @Column(length = 100)
+    private String location;
+
+    // 강의실(CourseTime.room) → 장소 id, 회차 DTO 에 그대로 실린다
+    private Long placeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private DayOfWeek dayOfWeek;
+
+    @Column(nullable = false)
+    private LocalTime startTime;
+
+    @Column(nullable = false)
+    private LocalTime endTime;
+
+    // 반복 구간(학기 시작/종강, 생성 시점 SemesterConst 값으로 고정)
+    @Column(nullable = false)
+    private LocalDate startDate;
+
+    @Column(nullable = false)
+    private LocalDate endDate;
+
+    @CreationTimestamp
+    private LocalDateTime createdAt;
+}
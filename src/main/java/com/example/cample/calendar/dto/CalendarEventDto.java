@@ -43,6 +43,9 @@ public class CalendarEventDto {
     // 파생 응답 필드(저장 안 함): TIMETABLE | MANUAL | SCHOOL
     private String origin;
 
+    // 응답 전용: 위치가 가리키는 장소(지도 마커). 요청 값은 무시하고 서버가 위치로 정한다
+    private Long placeId;
+
     public static CalendarEventDto from(CalendarEvent e) {
         String origin = switch (e.getType()) {
             case LECTURE -> "TIMETABLE";
@@ -61,6 +64,24 @@ public class CalendarEventDto {
                 .category(e.getCategory())
                 .important(e.isImportant())
                 .origin(origin)
+                .placeId(e.getPlaceId())
+                .build();
+    }
+
+    // 공유 캐시/스냅샷에서 꺼낼 때 사용
+    public CalendarEventDto copy() {
+        return CalendarEventDto.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .startAt(startAt)
+                .endAt(endAt)
+                .location(location)
+                .type(type)
+                .category(category)
+                .important(important)
+                .origin(origin)
+                .placeId(placeId)
                 .build();
     }
 }
@@ -3,32 +3,52 @@ package com.example.cample.calendar.repo;
 
 import com.example.cample.calendar.domain.CalendarEvent;
 import com.example.cample.calendar.domain.EventType;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface CalendarEventRepository extends JpaRepository<CalendarEvent, Long> {
 
+    // 기간 조회는 공용(SCHOOL, 메모리 스냅샷)과 개인 일정을 따로 읽어 서비스에서 병합한다.
+    // 한 쿼리에 OR 로 묶으면 MySQL 이 인덱스 머지/풀스캔을 택하므로, 개인 쪽은 복합 인덱스 하나만 타도록 분리
+
+    // 공용 일정 전체(학사 일정 스냅샷 빌드용, SchoolCalendarService)
+    List<CalendarEvent> findByType(EventType type);
+
+    interface Fingerprint {
+        Long getCnt();
+        Long getMaxId();
+        LocalDateTime getMaxUpdatedAt();
+    }
+
+    // 스냅샷 변경 감지용: 행 추가/삭제(cnt, maxId) + 수정(maxUpdatedAt)
+    @Query("""
+           select count(e) as cnt, coalesce(max(e.id), 0L) as maxId, max(e.updatedAt) as maxUpdatedAt
+           from CalendarEvent e
+           where e.type = :type
+           """)
+    Fingerprint fingerprint(@Param("type") EventType type);
+
+    // 소유자 일정: idx_owner_type_start_end (ownerId, type, startAt, endAt)
     @Query("""
            select e
            from CalendarEvent e
-           where e.startAt < :to
+           where e.ownerId = :ownerId
+             and e.type in :types
+             and e.startAt < :to
              and e.endAt   > :from
-             and (
-                    e.type = :school
-                 or (e.ownerId = :ownerId and e.type in :ownerTypes)
-                 )
            order by e.startAt asc, e.type asc
            """)
-    List<CalendarEvent> findIntersectWithOwnerTypes(
+    List<CalendarEvent> findIntersectForOwner(
             @Param("from") LocalDateTime from,
             @Param("to") LocalDateTime to,
             @Param("ownerId") Long ownerId,
-            @Param("school") EventType school,
-            @Param("ownerTypes") List<EventType> ownerTypes
+            @Param("types") List<EventType> types
     );
 
     Optional<CalendarEvent> findByIdAndOwnerId(Long id, Long ownerId);
@@ -48,4 +68,41 @@ public interface CalendarEventRepository extends JpaRepository<CalendarEvent, Lo
             @Param("type") EventType type,
             @Param("now") LocalDateTime now
     );
+
+    // ===== placeId 백필(PlaceIdBackfillJob) =====
+
+    interface LocationRow {
+        Long getId();
+        Long getOwnerId();
+        String getLocation();
+    }
+
+    // id 순 키셋 페이지: afterId 이후 placeId 가 비어 있고 위치가 있는 행
+    @Query("""
+           select e.id as id, e.ownerId as ownerId, e.location as location
+           from CalendarEvent e
+           where e.id > :afterId
+             and e.placeId is null
+             and e.location is not null
+           order by e.id asc
+           """)
+    List<LocationRow> findUnresolvedLocations(@Param("afterId") Long afterId, Pageable page);
+
+    // 읽은 뒤 사용자가 위치를 바꿨거나 placeId 가 이미 채워진 행은 건드리지 않는다.
+    // 벌크 update 는 @UpdateTimestamp 를 거치지 않으므로 updatedAt 을 직접 갱신(학사 일정 스냅샷 fingerprint 가 보도록)
+    @Modifying
+    @Query("""
+           update CalendarEvent e set e.placeId = :placeId, e.updatedAt = current_timestamp
+           where e.id in :ids
+             and e.placeId is null
+             and e.location = :location
+           """)
+    int updatePlaceId(@Param("ids") Collection<Long> ids,
+                      @Param("location") String location,
+                      @Param("placeId") Long placeId);
+
+    // 소유자 조건을 삭제 조건에 포함(남의 일정 id 가 섞여 있어도 지워지지 않음)
+    @Modifying
+    @Query("delete from CalendarEvent e where e.id in :ids and e.ownerId = :ownerId")
+    int deleteByIdsForOwner(@Param("ids") Collection<Long> ids, @Param("ownerId") Long ownerId);
 }
@@ -0,0 +1,60 @@
+// src/main/java/com/example/cample/calendar/repo/LectureRecurrenceRepository.java
+package com.example.cample.calendar.repo;
+
+import com.example.cample.calendar.domain.LectureRecurrence;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+public interface LectureRecurrenceRepository extends JpaRepository<LectureRecurrence, Long> {
+
+    // 조회 기간과 반복 구간이 겹치는 템플릿
+    @Query("""
+           select r
+           from LectureRecurrence r
+           where r.ownerId = :ownerId
+             and r.startDate <= :toDate
+             and r.endDate   >= :fromDate
+           order by r.id asc
+           """)
+    List<LectureRecurrence> findActive(
+            @Param("ownerId") Long ownerId,
+            @Param("fromDate") LocalDate fromDate,
+            @Param("toDate") LocalDate toDate
+    );
+
+    List<LectureRecurrence> findByTimetableItemIdInAndOwnerId(Collection<Long> timetableItemIds, Long ownerId);
+
+    // placeId 백필: CalendarEventRepository.findUnresolvedLocations 와 같은 키셋 페이지
+    @Query("""
+           select r.id as id, r.ownerId as ownerId, r.location as location
+           from LectureRecurrence r
+           where r.id > :afterId
+             and r.placeId is null
+             and r.location is not null
+           order by r.id asc
+           """)
+    List<CalendarEventRepository.LocationRow> findUnresolvedLocations(@Param("afterId") Long afterId, Pageable page);
+
+    // CalendarEventRepository.updatePlaceId 와 같은 조건(백필 중 사용자 수정과 겹쳐도 덮어쓰지 않음)
+    @Modifying
+    @Query("""
+           update LectureRecurrence r set r.placeId = :placeId
+           where r.id in :ids
+             and r.placeId is null
+             and r.location = :location
+           """)
+    int updatePlaceId(@Param("ids") Collection<Long> ids,
+                      @Param("location") String location,
+                      @Param("placeId") Long placeId);
+
+    @Modifying
+    @Query("delete from LectureRecurrence r where r.timetableItemId in :itemIds and r.ownerId = :ownerId")
+    int deleteByTimetableItemIdsForOwner(@Param("itemIds") Collection<Long> timetableItemIds, @Param("ownerId") Long ownerId);
+}
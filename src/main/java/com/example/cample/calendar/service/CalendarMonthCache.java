@@ -0,0 +1,115 @@
+// src/main/java/com/example/cample/calendar/service/CalendarMonthCache.java
+package com.example.cample.calendar.service;
+
+import com.example.cample.calendar.dto.CalendarEventDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * 사용자별 월 단위 캘린더 캐시: (userId, yyyy-MM) → 그 달과 겹치는 본인 일정(개인 + 강의 회차).
+ * 학사 일정(SCHOOL)은 SchoolCalendarService 스냅샷에서 따로 병합하므로 담지 않는다.
+ * 쓰기 쪽(CalendarService 의 일정 생성/수정/삭제, 강의 반복 생성/삭제)이 영향받는 달만 무효화한다.
+ * 무효화는 이 인스턴스에만 닿으므로, 다른 인스턴스에서 쓴 변경은 항목이 채워진 뒤 ttl(기본 5분) 안에 반영된다.
+ * (계속 조회해도 수명이 늘지 않도록 expireAfterWrite)
+ * 크기는 항목 수가 아니라 추정 바이트(weigher)로 제한한다.
+ * 지표: cache.gets{cache=calendarMonth,result=hit|miss}, cache.evictions, calendar.month.cache.weight(추정 바이트)
+ */
+@Component
+public class CalendarMonthCache {
+
+    private record Key(Long userId, YearMonth month) {}
+
+    private final Cache<Key, List<CalendarEventDto>> cache;
+
+    public CalendarMonthCache(MeterRegistry meterRegistry,
+                              @Value("${app.calendar.month-cache.max-bytes:268435456}") long maxBytes,
+                              @Value("${app.calendar.month-cache.ttl:PT5M}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((Key k, List<CalendarEventDto> v) -> weigh(v))
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "calendarMonth");
+        Gauge.builder("calendar.month.cache.weight", cache,
+                        c -> c.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L))
+                .description("월 캘린더 캐시 추정 메모리(바이트)")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    // 캐시된 목록은 공유되므로 꺼낼 때 복사해 넘긴다
+    public List<CalendarEventDto> get(Long userId, YearMonth month, Supplier<List<CalendarEventDto>> loader) {
+        List<CalendarEventDto> cached = cache.get(new Key(userId, month), k -> List.copyOf(loader.get()));
+        List<CalendarEventDto> out = new ArrayList<>(cached.size());
+        for (CalendarEventDto e : cached) out.add(e.copy());
+        return out;
+    }
+
+    // [start, end) 가 걸친 달들
+    public void invalidate(Long userId, LocalDateTime start, LocalDateTime end) {
+        if (start == null || end == null || !start.isBefore(end)) return;
+        invalidate(userId, YearMonth.from(start), YearMonth.from(end.minusNanos(1)));
+    }
+
+    // [startDate, endDate] 가 걸친 달들(강의 반복: 학기 전체)
+    public void invalidate(Long userId, LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || endDate.isBefore(startDate)) return;
+        invalidate(userId, YearMonth.from(startDate), YearMonth.from(endDate));
+    }
+
+    // 사용자들의 모든 달(일괄 갱신 작업이 커밋한 뒤 호출)
+    public void invalidateOwners(Collection<Long> userIds) {
+        if (userIds.isEmpty()) return;
+        Set<Long> ids = new HashSet<>(userIds);
+        cache.asMap().keySet().removeIf(k -> ids.contains(k.userId()));
+    }
+
+    /**
+     * 지금 지우고, 커밋/롤백 뒤에 한 번 더 지운다.
+     * (커밋 전에 다른 요청이 이전 상태를 다시 채워 넣었을 수 있으므로)
+     */
+    private void invalidate(Long userId, YearMonth first, YearMonth last) {
+        List<Key> keys = new ArrayList<>();
+        for (YearMonth m = first; !m.isAfter(last); m = m.plusMonths(1)) keys.add(new Key(userId, m));
+        cache.invalidateAll(keys);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) return;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                cache.invalidateAll(keys);
+            }
+        });
+    }
+
+    // 대략적인 힙 사용량: 키/리스트 + DTO 고정 필드 + 문자열(UTF-16 가정)
+    private static int weigh(List<CalendarEventDto> events) {
+        long bytes = 96 + 16 + 8L * events.size();
+        for (CalendarEventDto e : events) {
+            bytes += 200 + str(e.getTitle()) + str(e.getDescription()) + str(e.getLocation());
+        }
+        return (int) Math.min(Integer.MAX_VALUE, bytes);
+    }
+
+    private static int str(String s) {
+        return s == null ? 0 : 40 + 2 * s.length();
+    }
+}
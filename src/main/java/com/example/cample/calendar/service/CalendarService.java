@@ -4,21 +4,30 @@ package com.example.cample.calendar.service;
 import com.example.cample.calendar.domain.CalendarEvent;
 import com.example.cample.calendar.domain.EventCategory;
 import com.example.cample.calendar.domain.EventType;
+import com.example.cample.calendar.domain.LectureRecurrence;
 import com.example.cample.calendar.dto.CalendarEventDto;
 import com.example.cample.calendar.repo.CalendarEventRepository;
+import com.example.cample.calendar.repo.LectureRecurrenceRepository;
+import com.example.cample.common.constant.SemesterConst;
 import com.example.cample.common.exception.ApiException;
 import com.example.cample.place.domain.PlaceType;
 import com.example.cample.place.dto.PlaceSummaryDto;
 import com.example.cample.place.repo.PlaceRepository;
+import com.example.cample.place.service.PlaceLocationResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.*;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 @RequiredArgsConstructor
@@ -26,22 +35,54 @@ public class CalendarService {
 
     private final CalendarEventRepository repo;
     private final PlaceRepository placeRepository;
+    private final LectureRecurrenceRepository recurrenceRepo;
+    private final SchoolCalendarService schoolCalendar;
+    private final CalendarMonthCache monthCache;
+    private final PlaceLocationResolver locationResolver;
 
     private static final ZoneId KST = ZoneId.of("Asia/Seoul");
 
+    // 기간 조회 결과 순서(startAt asc, type asc — DB 정렬처럼 type 은 문자열 비교)
+    private static final Comparator<CalendarEventDto> EVENT_ORDER =
+            Comparator.comparing(CalendarEventDto::getStartAt)
+                    .thenComparing(e -> e.getType().name());
+
     @Transactional(readOnly = true)
     public List<CalendarEventDto> list(LocalDateTime from, LocalDateTime to, Long me) {
         if (from == null || to == null || !from.isBefore(to)) {
             throw new ApiException(HttpStatus.BAD_REQUEST, "from/to 범위가 유효하지 않습니다");
         }
-        return repo.findIntersectWithOwnerTypes(
+        // 공용은 메모리 스냅샷, 본인 일정은 인덱스로 읽어(둘 다 startAt 순) 병합
+        return mergeSorted(schoolCalendar.intersect(from, to), ownedEvents(from, to, me));
+    }
+
+    // 본인 일정(개인 + 주차별 LECTURE 행)과 펼친 강의 회차, EVENT_ORDER 순
+    private List<CalendarEventDto> ownedEvents(LocalDateTime from, LocalDateTime to, Long me) {
+        List<CalendarEventDto> owned = repo.findIntersectForOwner(
                         from, to, me,
-                        EventType.SCHOOL,
-                        List.of(EventType.PERSONAL, EventType.LECTURE)
+                        List.of(EventType.PERSONAL, EventType.LECTURE)   // LECTURE: 반복 템플릿 이전에 만든 주차별 행
                 )
                 .stream()
                 .map(CalendarEventDto::from)
                 .toList();
+        List<CalendarEventDto> lectures = new ArrayList<>(expandLectures(me, from, to));
+        lectures.sort(EVENT_ORDER);
+        return mergeSorted(owned, lectures);
+    }
+
+    // 이미 EVENT_ORDER 로 정렬된 두 목록을 선형 병합(같은 키면 a 쪽 먼저)
+    private static List<CalendarEventDto> mergeSorted(List<CalendarEventDto> a, List<CalendarEventDto> b) {
+        if (b.isEmpty()) return a;
+        if (a.isEmpty()) return b;
+        List<CalendarEventDto> out = new ArrayList<>(a.size() + b.size());
+        int i = 0, j = 0;
+        while (i < a.size() && j < b.size()) {
+            if (EVENT_ORDER.compare(b.get(j), a.get(i)) < 0) out.add(b.get(j++));
+            else out.add(a.get(i++));
+        }
+        while (i < a.size()) out.add(a.get(i++));
+        while (j < b.size()) out.add(b.get(j++));
+        return out;
     }
 
     @Transactional(readOnly = true)
@@ -54,7 +95,9 @@ public class CalendarService {
         }
         LocalDateTime from = yearMonth.atDay(1).atStartOfDay();
         LocalDateTime to = yearMonth.plusMonths(1).atDay(1).atStartOfDay();
-        return list(from, to, me);
+        // 본인 일정은 월 캐시(쓰기 시 해당 달만 무효화), 학사 일정은 스냅샷
+        List<CalendarEventDto> owned = monthCache.get(me, yearMonth, () -> ownedEvents(from, to, me));
+        return mergeSorted(schoolCalendar.intersect(from, to), owned);
     }
 
     @Transactional
@@ -69,10 +112,12 @@ public class CalendarService {
                 .type(EventType.PERSONAL)
                 .ownerId(me)
                 .location(req.getLocation())
+                .placeId(locationResolver.resolve(req.getLocation()))
                 .category(req.getCategory())
                 .important(Boolean.TRUE.equals(req.getImportant()))
                 .build();
 
+        monthCache.invalidate(me, e.getStartAt(), e.getEndAt());
         return CalendarEventDto.from(repo.save(e));
     }
 
@@ -80,6 +125,9 @@ public class CalendarService {
     public CalendarEventDto update(Long id, CalendarEventDto req, Long me) {
         validateUpsert(req);
 
+        if (isOccurrenceId(id)) {
+            throw new ApiException(HttpStatus.FORBIDDEN, "학교/강의 연동 일정은 수정할 수 없습니다");
+        }
         CalendarEvent e = repo.findById(id)
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "이벤트 없음"));
 
@@ -90,11 +138,16 @@ public class CalendarService {
             throw new ApiException(HttpStatus.FORBIDDEN, "본인 일정만 수정할 수 있습니다");
         }
 
+        // 옮기기 전/후 달 모두
+        monthCache.invalidate(me, e.getStartAt(), e.getEndAt());
+        monthCache.invalidate(me, req.getStartAt(), req.getEndAt());
+
         e.setTitle(req.getTitle());
         e.setDescription(req.getDescription());
         e.setStartAt(req.getStartAt());
         e.setEndAt(req.getEndAt());
         e.setLocation(req.getLocation());
+        e.setPlaceId(locationResolver.resolve(req.getLocation()));
         e.setCategory(req.getCategory());
         e.setImportant(Boolean.TRUE.equals(req.getImportant()));
 
@@ -103,6 +156,9 @@ public class CalendarService {
 
     @Transactional
     public void delete(Long id, Long me) {
+        if (isOccurrenceId(id)) {
+            throw new ApiException(HttpStatus.FORBIDDEN, "학교/강의 연동 일정은 삭제할 수 없습니다");
+        }
         CalendarEvent e = repo.findById(id)
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "이벤트 없음"));
 
@@ -112,6 +168,7 @@ public class CalendarService {
         if (e.getOwnerId() == null || !e.getOwnerId().equals(me)) {
             throw new ApiException(HttpStatus.FORBIDDEN, "본인 일정만 삭제할 수 있습니다");
         }
+        monthCache.invalidate(me, e.getStartAt(), e.getEndAt());
         repo.delete(e);
     }
 
@@ -163,22 +220,137 @@ public class CalendarService {
                 .type(EventType.LECTURE)
                 .ownerId(ownerId)
                 .location(location)
+                .placeId(locationResolver.resolve(location))
                 .category(EventCategory.LECTURE)
                 .important(false)
                 .build();
+        monthCache.invalidate(ownerId, start, end);
         return repo.save(e).getId();
     }
 
+    // 시간표 강의 슬롯 하나(요일/시각/강의실) → 주간 반복 템플릿 한 행
+    public record LectureSlot(DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime, String location) {}
+
+    // 시간표 항목 하나의 반복 일정 묶음
+    public record LectureSeries(Long timetableItemId, String title, List<LectureSlot> slots) {}
+
+    /**
+     * 시간표 항목의 강의 일정을 주간 반복 템플릿으로 저장(슬롯당 1행).
+     * 반환값은 학기 동안 펼쳐지는 회차 수(기존 주차별 행 생성 개수와 같음).
+     */
     @Transactional
-    public void deleteEventsByIdsForOwner(List<Long> ids, Long ownerId) {
-        if (ids == null || ids.isEmpty()) return;
-        var events = repo.findAllById(ids);
-        boolean illegal = events.stream()
-                .anyMatch(e -> e.getOwnerId() == null || !e.getOwnerId().equals(ownerId));
-        if (illegal) {
-            throw new ApiException(HttpStatus.FORBIDDEN, "본인 일정만 삭제할 수 있습니다");
+    public int createLectureSeries(Long ownerId, Long timetableItemId, String title, List<LectureSlot> slots) {
+        return createLectureSeries(ownerId, List.of(new LectureSeries(timetableItemId, title, slots)))
+                .getOrDefault(timetableItemId, 0);
+    }
+
+    // 여러 항목을 한 번에 저장. 반환: timetableItemId → 회차 수
+    @Transactional
+    public Map<Long, Integer> createLectureSeries(Long ownerId, List<LectureSeries> series) {
+        List<LectureRecurrence> rows = new ArrayList<>();
+        for (LectureSeries ls : series) {
+            for (LectureSlot s : ls.slots()) {
+                if (s.dayOfWeek() == null || s.startTime() == null || s.endTime() == null
+                        || !s.startTime().isBefore(s.endTime())) {
+                    throw new ApiException(HttpStatus.BAD_REQUEST, "startAt < endAt 이어야 합니다");
+                }
+                rows.add(LectureRecurrence.builder()
+                        .ownerId(ownerId)
+                        .timetableItemId(ls.timetableItemId())
+                        .title(ls.title())
+                        .location(s.location())
+                        .placeId(locationResolver.resolve(s.location()))
+                        .dayOfWeek(s.dayOfWeek())
+                        .startTime(s.startTime())
+                        .endTime(s.endTime())
+                        .startDate(SemesterConst.SEMESTER_START)
+                        .endDate(SemesterConst.SEMESTER_END)
+                        .build());
+            }
         }
-        repo.deleteAllByIdInBatch(ids);
+        recurrenceRepo.saveAll(rows);
+        monthCache.invalidate(ownerId, SemesterConst.SEMESTER_START, SemesterConst.SEMESTER_END);
+        Map<Long, Integer> counts = new HashMap<>();
+        for (LectureRecurrence r : rows) {
+            counts.merge(r.getTimetableItemId(), occurrenceCount(r), Integer::sum);
+        }
+        return counts;
+    }
+
+    // 반환값은 삭제된 템플릿이 펼쳐지던 회차 수
+    @Transactional
+    public int deleteLectureSeries(Long ownerId, Collection<Long> timetableItemIds) {
+        if (timetableItemIds == null || timetableItemIds.isEmpty()) return 0;
+        List<LectureRecurrence> rows = recurrenceRepo.findByTimetableItemIdInAndOwnerId(timetableItemIds, ownerId);
+        if (rows.isEmpty()) return 0;
+        recurrenceRepo.deleteByTimetableItemIdsForOwner(timetableItemIds, ownerId);
+        for (LectureRecurrence r : rows) monthCache.invalidate(ownerId, r.getStartDate(), r.getEndDate());
+        return rows.stream().mapToInt(this::occurrenceCount).sum();
+    }
+
+    // ===== 반복 강의 펼치기 =====
+
+    // [from, to) 와 겹치는 회차. DB 의 주차별 LECTURE 행과 같은 모양의 DTO
+    private List<CalendarEventDto> expandLectures(Long ownerId, LocalDateTime from, LocalDateTime to) {
+        List<LectureRecurrence> series = recurrenceRepo.findActive(ownerId, from.toLocalDate(), to.toLocalDate());
+        if (series.isEmpty()) return List.of();
+        List<CalendarEventDto> out = new ArrayList<>();
+        for (LectureRecurrence r : series) {
+            LocalDate first = firstOccurrence(r.getDayOfWeek(), r.getStartDate());
+            // 회차는 당일 안에서 끝나므로 from 이전 날짜의 회차는 겹칠 수 없다
+            LocalDate d = from.toLocalDate().isAfter(first)
+                    ? firstOccurrence(r.getDayOfWeek(), from.toLocalDate())
+                    : first;
+            for (; !d.isAfter(r.getEndDate()) && !d.isAfter(to.toLocalDate()); d = d.plusWeeks(1)) {
+                LocalDateTime start = LocalDateTime.of(d, r.getStartTime());
+                LocalDateTime end = LocalDateTime.of(d, r.getEndTime());
+                if (!start.isBefore(to) || !end.isAfter(from)) continue;
+                int week = (int) ChronoUnit.WEEKS.between(first, d);
+                out.add(CalendarEventDto.builder()
+                        .id(occurrenceId(r.getId(), week))
+                        .title(r.getTitle())
+                        .description(null)
+                        .startAt(start)
+                        .endAt(end)
+                        .location(r.getLocation())
+                        .placeId(r.getPlaceId())
+                        .type(EventType.LECTURE)
+                        .category(EventCategory.LECTURE)
+                        .important(false)
+                        .origin("TIMETABLE")
+                        .build());
+            }
+        }
+        return out;
+    }
+
+    // 회차 id: 실제 행 id 와 겹치지 않도록 음수(템플릿 id, 주차)로 만든다
+    private static long occurrenceId(long recurrenceId, int week) {
+        return -((recurrenceId << 10) | week);
+    }
+
+    private static boolean isOccurrenceId(Long id) {
+        return id != null && id < 0;
+    }
+
+    private int occurrenceCount(LectureRecurrence r) {
+        LocalDate first = firstOccurrence(r.getDayOfWeek(), r.getStartDate());
+        if (first.isAfter(r.getEndDate())) return 0;
+        return (int) ChronoUnit.WEEKS.between(first, r.getEndDate()) + 1;
+    }
+
+    private static LocalDate firstOccurrence(DayOfWeek dow, LocalDate start) {
+        int diff = (dow.getValue() - start.getDayOfWeek().getValue() + 7) % 7;
+        return start.plusDays(diff);
+    }
+
+    @Transactional
+    public int deleteEventsByIdsForOwner(Collection<Long> ids, Long ownerId) {
+        if (ids == null || ids.isEmpty()) return 0;
+        // 엔티티를 읽지 않고 소유자 조건이 붙은 delete 한 번으로 처리.
+        // 호출 측은 시간표 삭제(반복 템플릿 이전의 주차별 LECTURE 행)뿐이므로 학기 범위 달을 무효화
+        monthCache.invalidate(ownerId, SemesterConst.SEMESTER_START, SemesterConst.SEMESTER_END);
+        return repo.deleteByIdsForOwner(ids, ownerId);
     }
 
     // ===== 메인 화면용 카페 추천 (기존) =====
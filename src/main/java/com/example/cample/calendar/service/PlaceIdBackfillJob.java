@@ -0,0 +1,116 @@
+// src/main/java/com/example/cample/calendar/service/PlaceIdBackfillJob.java
+package com.example.cample.calendar.service;
+
+import com.example.cample.calendar.repo.CalendarEventRepository;
+import com.example.cample.calendar.repo.LectureRecurrenceRepository;
+import com.example.cample.place.service.PlaceLocationResolver;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.function.BiFunction;
+
+/**
+ * placeId 컬럼 추가 전에 저장된 일정/강의 반복 행의 placeId 채우기.
+ * 기동 후 백그라운드(가상 스레드)에서 id 순 키셋 페이지로 한 번 훑는다. 배치마다 별도 트랜잭션.
+ * 매칭되는 장소가 없는 행은 NULL 로 남고(조회 시 위치 문자열로 해석), 다음 기동 때 다시 확인한다.
+ * 배치가 커밋되면 해당 소유자들의 월 캘린더 캐시를 비워 새 placeId 가 바로 보이게 한다.
+ */
+@Slf4j
+@Component
+public class PlaceIdBackfillJob {
+
+    private final CalendarEventRepository eventRepo;
+    private final LectureRecurrenceRepository recurrenceRepo;
+    private final PlaceLocationResolver locationResolver;
+    private final TransactionTemplate txTemplate;
+    private final CalendarMonthCache monthCache;
+    private final boolean enabled;
+    private final int batchSize;
+
+    // (행 id 들, 읽을 때의 위치 문자열, placeId) → 갱신 행 수
+    private interface PlaceIdUpdate {
+        int apply(Collection<Long> ids, String location, Long placeId);
+    }
+
+    public PlaceIdBackfillJob(CalendarEventRepository eventRepo,
+                              LectureRecurrenceRepository recurrenceRepo,
+                              PlaceLocationResolver locationResolver,
+                              TransactionTemplate txTemplate,
+                              CalendarMonthCache monthCache,
+                              @Value("${app.calendar.place-backfill.enabled:true}") boolean enabled,
+                              @Value("${app.calendar.place-backfill.batch-size:1000}") int batchSize) {
+        this.eventRepo = eventRepo;
+        this.recurrenceRepo = recurrenceRepo;
+        this.locationResolver = locationResolver;
+        this.txTemplate = txTemplate;
+        this.monthCache = monthCache;
+        this.enabled = enabled;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!enabled) return;
+        Thread.ofVirtual().name("place-id-backfill").start(() -> {
+            try {
+                run();
+            } catch (Exception e) {
+                log.warn("placeId 백필 중단", e);
+            }
+        });
+    }
+
+    public void run() {
+        long t0 = System.nanoTime();
+        int events = backfill(eventRepo::findUnresolvedLocations, eventRepo::updatePlaceId);
+        int lectures = backfill(recurrenceRepo::findUnresolvedLocations, recurrenceRepo::updatePlaceId);
+        log.info("placeId 백필 완료: calendar_events={}, lecture_recurrences={}, {}ms",
+                events, lectures, (System.nanoTime() - t0) / 1_000_000);
+    }
+
+    private int backfill(BiFunction<Long, PageRequest, List<CalendarEventRepository.LocationRow>> page,
+                         PlaceIdUpdate update) {
+        long afterId = 0L;
+        int updated = 0;
+        while (true) {
+            List<CalendarEventRepository.LocationRow> rows = page.apply(afterId, PageRequest.of(0, batchSize));
+            if (rows.isEmpty()) return updated;
+            afterId = rows.get(rows.size() - 1).getId();
+
+            // 같은 위치 문자열끼리 묶어 update 한 번씩(종류는 적다). update 는 위치가 그대로이고
+            // placeId 가 비어 있는 행만 바꾸므로, 읽은 뒤 사용자가 수정한 행은 새 값이 유지된다
+            Map<String, List<Long>> idsByLocation = new HashMap<>();
+            Map<String, Set<Long>> ownersByLocation = new HashMap<>();
+            for (CalendarEventRepository.LocationRow r : rows) {
+                idsByLocation.computeIfAbsent(r.getLocation(), k -> new ArrayList<>()).add(r.getId());
+                ownersByLocation.computeIfAbsent(r.getLocation(), k -> new HashSet<>()).add(r.getOwnerId());
+            }
+            Map<String, Long> placeByLocation = new HashMap<>();
+            for (String location : idsByLocation.keySet()) {
+                Long placeId = locationResolver.resolve(location);
+                if (placeId != null) placeByLocation.put(location, placeId);
+            }
+            if (!placeByLocation.isEmpty()) {
+                Integer n = txTemplate.execute(status -> {
+                    int sum = 0;
+                    for (var e : placeByLocation.entrySet()) {
+                        sum += update.apply(idsByLocation.get(e.getKey()), e.getKey(), e.getValue());
+                    }
+                    return sum;
+                });
+                updated += n == null ? 0 : n;
+                // 커밋된 뒤에 비운다(그 전에 비우면 다른 요청이 이전 값을 다시 채울 수 있다)
+                Set<Long> owners = new HashSet<>();
+                for (String location : placeByLocation.keySet()) owners.addAll(ownersByLocation.get(location));
+                monthCache.invalidateOwners(owners);
+            }
+            if (rows.size() < batchSize) return updated;
+        }
+    }
+}
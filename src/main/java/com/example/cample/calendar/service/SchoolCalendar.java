@@ -0,0 +1,90 @@
+// src/main/java/com/example/cample/calendar/service/SchoolCalendar.java
+package com.example.cample.calendar.service;
+
+import com.example.cample.calendar.dto.CalendarEventDto;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 학사 일정(SCHOOL) 불변 스냅샷: startAt 순으로 정렬한 배열 위의 암시적 구간 트리.
+ * 구간 [lo, hi) 의 가운데 원소가 노드이고, maxEnd[mid] 는 그 서브트리의 가장 늦은 endAt.
+ * [from, to) 와 겹치는 일정 k개를 O(log n + k) 에 startAt 순으로 돌려준다.
+ * 모든 사용자가 같은 스냅샷을 공유하므로, 꺼낼 때마다 DTO 를 복사해 넘긴다.
+ */
+final class SchoolCalendar {
+
+    static final SchoolCalendar EMPTY = build(0, List.of());
+
+    private final long version;
+    private final CalendarEventDto[] events;   // (startAt, id) 순
+    private final long[] starts;               // 비교용 정수 시각(epoch 함수)
+    private final long[] ends;
+    private final long[] maxEnd;
+
+    private SchoolCalendar(long version, CalendarEventDto[] events) {
+        this.version = version;
+        this.events = events;
+        int n = events.length;
+        this.starts = new long[n];
+        this.ends = new long[n];
+        this.maxEnd = new long[n];
+        for (int i = 0; i < n; i++) {
+            starts[i] = epoch(events[i].getStartAt());
+            ends[i] = epoch(events[i].getEndAt());
+        }
+        fillMaxEnd(0, n);
+    }
+
+    static SchoolCalendar build(long version, List<CalendarEventDto> schoolEvents) {
+        CalendarEventDto[] arr = schoolEvents.stream()
+                .filter(e -> e.getStartAt() != null && e.getEndAt() != null)
+                .sorted(Comparator.comparing(CalendarEventDto::getStartAt)
+                        .thenComparing(CalendarEventDto::getId, Comparator.nullsLast(Long::compareTo)))
+                .toArray(CalendarEventDto[]::new);
+        return new SchoolCalendar(version, arr);
+    }
+
+    long version() {
+        return version;
+    }
+
+    int size() {
+        return events.length;
+    }
+
+    // startAt < to && endAt > from 인 일정(startAt 순)
+    List<CalendarEventDto> intersect(LocalDateTime from, LocalDateTime to) {
+        List<CalendarEventDto> out = new ArrayList<>();
+        if (events.length == 0) return out;
+        collect(0, events.length, epoch(from), epoch(to), out);
+        return out;
+    }
+
+    // 중위 순회로 방문하므로 결과는 정렬 순서를 유지한다
+    private void collect(int lo, int hi, long from, long to, List<CalendarEventDto> out) {
+        if (lo >= hi) return;
+        int mid = (lo + hi) >>> 1;
+        if (maxEnd[mid] <= from) return;             // 서브트리 전체가 from 이전에 끝남
+        collect(lo, mid, from, to, out);
+        if (starts[mid] >= to) return;               // mid 와 오른쪽은 모두 to 이후에 시작
+        if (ends[mid] > from) out.add(events[mid].copy());
+        collect(mid + 1, hi, from, to, out);
+    }
+
+    private long fillMaxEnd(int lo, int hi) {
+        if (lo >= hi) return Long.MIN_VALUE;
+        int mid = (lo + hi) >>> 1;
+        long m = Math.max(ends[mid], Math.max(fillMaxEnd(lo, mid), fillMaxEnd(mid + 1, hi)));
+        maxEnd[mid] = m;
+        return m;
+    }
+
+    // 마이크로초 단위(datetime(6) 정밀도)
+    private static long epoch(LocalDateTime t) {
+        return t.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + t.getNano() / 1_000;
+    }
+}
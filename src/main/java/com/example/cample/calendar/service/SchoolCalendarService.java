@@ -0,0 +1,81 @@
+// src/main/java/com/example/cample/calendar/service/SchoolCalendarService.java
+package com.example.cample.calendar.service;
+
+import com.example.cample.calendar.domain.EventType;
+import com.example.cample.calendar.dto.CalendarEventDto;
+import com.example.cample.calendar.repo.CalendarEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 학사 일정(SCHOOL) 스냅샷 보관/재빌드. 모든 사용자의 캘린더/오늘/요약 조회가 같은 스냅샷을 읽는다.
+ * 학사 일정은 API 로 쓰지 않고(수정/삭제 403) DB 에 직접 넣으므로, 주기적으로 fingerprint 를 비교해 바뀌면 재빌드한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SchoolCalendarService {
+
+    private final CalendarEventRepository repo;
+
+    private final AtomicReference<SchoolCalendar> current = new AtomicReference<>();
+    private final AtomicLong versionSeq = new AtomicLong();
+    private volatile String lastFingerprint;
+
+    // [from, to) 와 겹치는 학사 일정(startAt 순, 호출마다 새 DTO)
+    public List<CalendarEventDto> intersect(LocalDateTime from, LocalDateTime to) {
+        return current().intersect(from, to);
+    }
+
+    SchoolCalendar current() {
+        SchoolCalendar c = current.get();
+        if (c != null) return c;
+        synchronized (this) {
+            c = current.get();
+            return (c != null) ? c : rebuild();
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("학사 일정 스냅샷 초기 빌드 실패, 첫 조회 시 재시도", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.calendar.school.refresh-interval:PT1M}",
+            initialDelayString = "${app.calendar.school.refresh-interval:PT1M}")
+    public void refreshIfChanged() {
+        if (current.get() == null || !fingerprint().equals(lastFingerprint)) {
+            rebuild();
+        }
+    }
+
+    synchronized SchoolCalendar rebuild() {
+        String fp = fingerprint();
+        List<CalendarEventDto> events = repo.findByType(EventType.SCHOOL).stream()
+                .map(CalendarEventDto::from)
+                .toList();
+        SchoolCalendar next = SchoolCalendar.build(versionSeq.incrementAndGet(), events);
+        current.set(next);
+        lastFingerprint = fp;
+        log.info("학사 일정 스냅샷 재빌드: version={}, events={}", next.version(), next.size());
+        return next;
+    }
+
+    private String fingerprint() {
+        CalendarEventRepository.Fingerprint f = repo.fingerprint(EventType.SCHOOL);
+        return f.getCnt() + ":" + f.getMaxId() + ":" + f.getMaxUpdatedAt();
+    }
+}
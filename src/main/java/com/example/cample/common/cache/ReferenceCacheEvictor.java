@@ -0,0 +1,56 @@
+// src/main/java/com/example/cample/common/cache/ReferenceCacheEvictor.java
+package com.example.cample.common.cache;
+
+import com.example.cample.course.domain.Course;
+import com.example.cample.course.domain.CourseCategory;
+import com.example.cample.course.domain.CourseTime;
+import com.example.cample.place.domain.Place;
+import com.example.cample.place.domain.PlaceMenu;
+import com.example.cample.place.service.PlaceLocationResolver;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 강의/장소 참조 데이터의 Hibernate 2차 캐시 비우기.
+ * JPA 로 쓰면 READ_WRITE 전략이 알아서 맞추지만, JDBC 일괄 쓰기(CSV 임포트)나 DB 직접 수정은
+ * Hibernate 를 거치지 않으므로 여기서 엔티티/컬렉션/쿼리 영역을 명시적으로 비운다.
+ */
+@Slf4j
+@Component
+public class ReferenceCacheEvictor {
+
+    public static final String QUERY_REGION = "query.reference";
+
+    public enum Target { COURSES, PLACES, ALL }
+
+    private final Cache cache;
+    private final PlaceLocationResolver locationResolver;
+
+    public ReferenceCacheEvictor(EntityManagerFactory emf, PlaceLocationResolver locationResolver) {
+        this.cache = emf.unwrap(SessionFactory.class).getCache();
+        this.locationResolver = locationResolver;
+    }
+
+    public void evict(Target target) {
+        if (target == Target.COURSES || target == Target.ALL) {
+            cache.evictEntityData(Course.class);
+            cache.evictEntityData(CourseTime.class);
+            cache.evictEntityData(CourseCategory.class);
+            cache.evictCollectionData(CourseCategory.class.getName() + ".children");
+        }
+        if (target == Target.PLACES || target == Target.ALL) {
+            cache.evictEntityData(Place.class);
+            cache.evictEntityData(PlaceMenu.class);
+            cache.evictCollectionData(Place.class.getName() + ".menus");
+            // 위치 문자열 → 장소 매칭도 새 장소 목록으로 다시
+            locationResolver.invalidateAll();
+        }
+        // 쿼리 영역은 강의/장소 결과가 섞여 있으므로 통째로
+        cache.evictQueryRegion(QUERY_REGION);
+        cache.evictDefaultQueryRegion();
+        log.info("2차 캐시 비움: target={}", target);
+    }
+}
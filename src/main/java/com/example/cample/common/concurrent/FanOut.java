@@ -0,0 +1,123 @@
+// src/main/java/com/example/cample/common/concurrent/FanOut.java
+package com.example.cample.common.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+ * 한 요청 안의 서로 독립적인 하위 조회를 가상 스레드에서 동시에 실행.
+ * 조회마다 마감 시간을 두고, 마감을 넘기거나 실패하면 fallback 값으로 응답을 채운다(부분 결과).
+ * 조회는 마감과 같은 timeout 의 읽기 전용 트랜잭션 안에서 돌아 JPA 쿼리 timeout(jakarta.persistence.query.timeout)이
+ * 남은 시간으로 걸린다 — 마감을 넘긴 쿼리는 버려진 뒤에도 DB 에서 계속 돌지 않고 취소된다.
+ * 동시에 실행 중인 조회 수는 커넥션 풀 크기로 제한(bulkhead)하고, 자리가 없으면 기다리지 않고 바로 fallback.
+ * 지표: fanout.segment{endpoint, segment, outcome=ok|error} 실제 소요 시간(마감 뒤에 끝난 조회 포함),
+ *       fanout.fallback{endpoint, segment, reason=timeout|error|rejected} fallback 으로 응답한 횟수
+ */
+@Slf4j
+@Component
+public class FanOut {
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final MeterRegistry meterRegistry;
+    private final PlatformTransactionManager txManager;
+    private final Semaphore permits;
+
+    public FanOut(MeterRegistry meterRegistry,
+                  PlatformTransactionManager txManager,
+                  @Value("${app.fanout.max-concurrent:${spring.datasource.hikari.maximum-pool-size:10}}") int maxConcurrent) {
+        this.meterRegistry = meterRegistry;
+        this.txManager = txManager;
+        this.permits = new Semaphore(maxConcurrent);
+    }
+
+    public <T> Segment<T> submit(String endpoint, String segment, Duration deadline, T fallback, Supplier<T> task) {
+        long t0 = System.nanoTime();
+        if (!permits.tryAcquire()) {
+            countFallback(endpoint, segment, "rejected");
+            log.warn("{}: {} 동시 조회 한도 초과, 빈 결과로 응답", endpoint, segment);
+            return new Segment<>(endpoint, segment, CompletableFuture.completedFuture(fallback), t0, fallback);
+        }
+
+        TransactionTemplate tx = new TransactionTemplate(txManager);
+        tx.setReadOnly(true);
+        tx.setTimeout((int) Math.max(1, (deadline.toMillis() + 999) / 1000));   // 초 단위(올림)
+
+        CompletableFuture<T> f;
+        try {
+            f = CompletableFuture.supplyAsync(() -> tx.execute(status -> task.get()), executor);
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            throw e;
+        }
+        f.whenComplete((v, ex) -> {
+            permits.release();
+            Timer.builder("fanout.segment")
+                    .tag("endpoint", endpoint)
+                    .tag("segment", segment)
+                    .tag("outcome", ex == null ? "ok" : "error")
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - t0, TimeUnit.NANOSECONDS);
+        });
+        return new Segment<>(endpoint, segment, f, t0 + deadline.toNanos(), fallback);
+    }
+
+    private void countFallback(String endpoint, String segment, String reason) {
+        Counter.builder("fanout.fallback")
+                .tag("endpoint", endpoint)
+                .tag("segment", segment)
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    public final class Segment<T> {
+        private final String endpoint;
+        private final String segment;
+        private final CompletableFuture<T> future;
+        private final long deadlineAt;
+        private final T fallback;
+
+        private Segment(String endpoint, String segment, CompletableFuture<T> future, long deadlineAt, T fallback) {
+            this.endpoint = endpoint;
+            this.segment = segment;
+            this.future = future;
+            this.deadlineAt = deadlineAt;
+            this.fallback = fallback;
+        }
+
+        // 마감까지 남은 시간만큼 기다린다(이미 다른 조회를 기다리느라 지났으면 즉시 판정)
+        public T join() {
+            try {
+                return future.get(Math.max(0, deadlineAt - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                countFallback(endpoint, segment, "timeout");
+                log.warn("{}: {} 조회 마감 초과, 빈 결과로 응답", endpoint, segment);
+                return fallback;
+            } catch (ExecutionException e) {
+                countFallback(endpoint, segment, "error");
+                log.warn("{}: {} 조회 실패, 빈 결과로 응답", endpoint, segment, e.getCause());
+                return fallback;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                countFallback(endpoint, segment, "error");
+                return fallback;
+            }
+        }
+    }
+}
@@ -0,0 +1,10 @@
+// src/main/java/com/example/cample/common/config/SchedulingConfig.java
+package com.example.cample.common.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
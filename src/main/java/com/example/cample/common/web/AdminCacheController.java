@@ -0,0 +1,26 @@
+// src/main/java/com/example/cample/common/web/AdminCacheController.java
+package com.example.cample.common.web;
+
+import com.example.cample.common.cache.ReferenceCacheEvictor;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+// 운영자 전용: DB 를 직접 고친 뒤 2차 캐시를 비울 때 사용
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/cache")
+public class AdminCacheController {
+
+    private final AdminTokenVerifier adminTokenVerifier;
+    private final ReferenceCacheEvictor cacheEvictor;
+
+    // target=COURSES|PLACES|ALL
+    @PostMapping("/evict")
+    public ResponseEntity<Void> evict(@RequestHeader(value = AdminTokenVerifier.HEADER, required = false) String token,
+                                      @RequestParam(defaultValue = "ALL") ReferenceCacheEvictor.Target target) {
+        adminTokenVerifier.check(token);
+        cacheEvictor.evict(target);
+        return ResponseEntity.noContent().build();
+    }
+}
@@ -0,0 +1,26 @@
+// src/main/java/com/example/cample/common/web/AdminTokenVerifier.java
+package com.example.cample.common.web;
+
+import com.example.cample.common.exception.ApiException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+// 운영자 전용 API 확인: 역할(Role) 체계가 없으므로 X-Admin-Token 헤더(app.admin.token)로 확인. 토큰 미설정 시 항상 거부
+@Component
+public class AdminTokenVerifier {
+
+    public static final String HEADER = "X-Admin-Token";
+
+    @Value("${app.admin.token:}")
+    private String adminToken;
+
+    public void check(String token) {
+        boolean ok = adminToken != null && !adminToken.isBlank() && token != null
+                && MessageDigest.isEqual(adminToken.getBytes(StandardCharsets.UTF_8), token.getBytes(StandardCharsets.UTF_8));
+        if (!ok) throw new ApiException(HttpStatus.FORBIDDEN, "관리자 권한이 없습니다");
+    }
+}
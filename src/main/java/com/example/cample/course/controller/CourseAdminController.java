@@ -0,0 +1,40 @@
+// src/main/java/com/example/cample/course/controller/CourseAdminController.java
+package com.example.cample.course.controller;
+
+import com.example.cample.common.exception.ApiException;
+import com.example.cample.common.web.AdminTokenVerifier;
+import com.example.cample.course.dto.CourseImportResult;
+import com.example.cample.course.service.CourseImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+// 운영자 전용(X-Admin-Token, AdminTokenVerifier 참고)
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/courses")
+public class CourseAdminController {
+
+    private final CourseImportService importService;
+    private final AdminTokenVerifier adminTokenVerifier;
+
+    // 학기 강의 CSV 임포트. dryRun=true 면 비교 결과만 보고하고 쓰지 않음
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public CourseImportResult importCsv(@RequestHeader(value = AdminTokenVerifier.HEADER, required = false) String token,
+                                        @RequestPart("file") MultipartFile file,
+                                        @RequestParam(required = false) String semester,
+                                        @RequestParam(required = false, defaultValue = "false") boolean dryRun) throws IOException {
+        adminTokenVerifier.check(token);
+        if (file == null || file.isEmpty()) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "빈 파일입니다");
+        }
+        try (InputStream in = file.getInputStream()) {
+            return importService.importCsv(in, semester, dryRun);
+        }
+    }
+}
@@ -5,12 +5,18 @@ import com.example.cample.common.exception.ApiException;
 import com.example.cample.course.dto.*;
 import com.example.cample.course.service.CourseService;
 import com.example.cample.security.model.CustomUserPrincipal;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -20,8 +26,9 @@ import java.util.stream.Collectors;
 public class CourseController {
 
     private final CourseService service;
+    private final ObjectMapper objectMapper;
 
-    // 통합 검색(단일 키워드 선택: q | professor | courseCode | room)
+    // 통합 검색(단일 키워드 선택: q | professor | courseCode | room | chosung)
     // 확장: years(다중 CSV), yearsEtcOnly=true면 1,2,3,4 제외 나머지 연도만, credits(다중 CSV: 0,0.5,...,3.5,4+)
     @GetMapping
     public List<CourseDto> search(
@@ -43,20 +50,15 @@ public class CourseController {
             @RequestParam(required = false) String ranges,
             @RequestParam(required = false) String windows,
 
-            // 단일 선택 키워드(4중 1개만 지정)
+            // 단일 선택 키워드(5중 1개만 지정)
             @RequestParam(required = false, name = "q") String name,
             @RequestParam(required = false) String professor,
             @RequestParam(required = false) String courseCode,
-            @RequestParam(required = false) String room
+            @RequestParam(required = false) String room,
+            @RequestParam(required = false) String chosung,             // 예: "ㅈㄹㄱㅈ" → 자료구조
+            @RequestParam(required = false, defaultValue = "false") boolean chosungPrefix // true면 앞부분 일치만
     ) {
-        int modeCount = 0;
-        if (has(name)) modeCount++;
-        if (has(professor)) modeCount++;
-        if (has(courseCode)) modeCount++;
-        if (has(room)) modeCount++;
-        if (modeCount > 1) {
-            throw new ApiException(HttpStatus.BAD_REQUEST, "q/professor/courseCode/room 중 하나만 지정하세요");
-        }
+        checkSingleKeyword(name, professor, courseCode, room, chosung);
 
         // 단일 파라미터와 신규 다중 파라미터 병합
         List<String> yearList = mergeYears(years, year);
@@ -86,6 +88,12 @@ public class CourseController {
                     sort, days, startTime, endTime, ranges, windows
             );
         }
+        if (has(chosung)) {
+            return service.searchByChosungV2(
+                    chosung, chosungPrefix, categoryId, yearList, yearsEtcOnly, creditList,
+                    sort, days, startTime, endTime, ranges, windows
+            );
+        }
 
         return service.searchV2(
                 categoryId, yearList, yearsEtcOnly, creditList,
@@ -93,6 +101,73 @@ public class CourseController {
         );
     }
 
+    // 내 시간표 빈 시간에 들어가는 강의: 파라미터는 통합 검색과 동일(시간 조건과는 AND)
+    @GetMapping("/fits-my-time")
+    public List<CourseDto> searchFitsMyTime(CourseSearchParams p,
+                                            @AuthenticationPrincipal CustomUserPrincipal me) {
+        checkSingleKeyword(p.getQ(), p.getProfessor(), p.getCourseCode(), p.getRoom(), p.getChosung());
+        return service.searchFitsMyTimetableV2(
+                me.getId(),
+                p.getQ(), p.getProfessor(), p.getCourseCode(),
+                p.getRoom(), p.getChosung(), p.isChosungPrefix(),
+                p.getCategoryId(), mergeYears(p.getYears(), p.getYear()), p.isYearsEtcOnly(),
+                mergeCredits(p.getCredits(), p.getCredit()),
+                p.getSort(), p.getDays(), p.getStartTime(), p.getEndTime(), p.getRanges(), p.getWindows()
+        );
+    }
+
+    // 커서 페이지: 파라미터는 통합 검색과 동일 + cursor/size. 다음 페이지는 응답의 nextCursor 로 요청
+    @GetMapping("/page")
+    public CoursePageDto searchPage(CourseSearchParams p,
+                                    @RequestParam(required = false) String cursor,
+                                    @RequestParam(required = false, defaultValue = "50") int size) {
+        checkSingleKeyword(p.getQ(), p.getProfessor(), p.getCourseCode(), p.getRoom(), p.getChosung());
+        return service.searchPageV2(
+                p.getQ(), p.getProfessor(), p.getCourseCode(),
+                p.getRoom(), p.getChosung(), p.isChosungPrefix(),
+                p.getCategoryId(), mergeYears(p.getYears(), p.getYear()), p.isYearsEtcOnly(),
+                mergeCredits(p.getCredits(), p.getCredit()),
+                p.getSort(), p.getDays(), p.getStartTime(), p.getEndTime(), p.getRanges(), p.getWindows(),
+                cursor, size
+        );
+    }
+
+    // NDJSON 스트리밍: 한 줄에 CourseDto 하나. 정렬 순서대로 chunk 마다 flush
+    @GetMapping(value = "/stream", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> searchStream(CourseSearchParams p) {
+        checkSingleKeyword(p.getQ(), p.getProfessor(), p.getCourseCode(), p.getRoom(), p.getChosung());
+        List<String> yearList = mergeYears(p.getYears(), p.getYear());
+        List<String> creditList = mergeCredits(p.getCredits(), p.getCredit());
+
+        StreamingResponseBody body = out -> service.streamV2(
+                p.getQ(), p.getProfessor(), p.getCourseCode(),
+                p.getRoom(), p.getChosung(), p.isChosungPrefix(),
+                p.getCategoryId(), yearList, p.isYearsEtcOnly(), creditList,
+                p.getSort(), p.getDays(), p.getStartTime(), p.getEndTime(), p.getRanges(), p.getWindows(),
+                chunk -> {
+                    try {
+                        for (CourseDto dto : chunk) {
+                            out.write(objectMapper.writeValueAsBytes(dto));
+                            out.write('\n');
+                        }
+                        out.flush();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+        );
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/x-ndjson"))
+                .body(body);
+    }
+
+    // 자동완성(타이핑 중 호출): 강의명/교수/학수번호 접두사, 강의명 초성 접두사. 인기순 상위 limit개
+    @GetMapping("/suggest")
+    public List<CourseSuggestDto> suggest(@RequestParam(required = false) String q,
+                                          @RequestParam(required = false, defaultValue = "10") int limit) {
+        return service.suggest(q, limit);
+    }
+
     // 단건: 상세 + 평점 + 강의평 목록(기본: 최신순)
     @GetMapping("/{courseId}")
     public CourseDto getOne(@PathVariable Long courseId,
@@ -166,6 +241,18 @@ public class CourseController {
         return s != null && !s.isBlank();
     }
 
+    private void checkSingleKeyword(String name, String professor, String courseCode, String room, String chosung) {
+        int modeCount = 0;
+        if (has(name)) modeCount++;
+        if (has(professor)) modeCount++;
+        if (has(courseCode)) modeCount++;
+        if (has(room)) modeCount++;
+        if (has(chosung)) modeCount++;
+        if (modeCount > 1) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "q/professor/courseCode/room/chosung 중 하나만 지정하세요");
+        }
+    }
+
     private List<String> mergeYears(String yearsCsv, String singleYear) {
         List<String> list = parseCsv(yearsCsv);
         if (!list.isEmpty()) return list;
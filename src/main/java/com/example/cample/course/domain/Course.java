@@ -3,6 +3,11 @@ package com.example.cample.course.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "courses",
@@ -17,6 +22,8 @@ import lombok.*;
                 @Index(name = "idx_course_year", columnList = "year")
         }
 )
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course.Course")
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class Course {
 
@@ -50,4 +57,11 @@ public class Course {
 
     @Column(name = "target_department", length = 100)
     private String targetDepartment; // "모든학과", "항공교통물류학과" 등
+
+    @Column(name = "content_hash", length = 64)
+    private String contentHash;      // CSV 임포트 변경 감지용(SHA-256, 강의시간 포함)
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt; // 카탈로그 스냅샷 변경 감지용
 }
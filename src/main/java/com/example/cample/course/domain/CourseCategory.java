@@ -2,12 +2,16 @@ package com.example.cample.course.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "course_categories")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course.CourseCategory")
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class CourseCategory {
 
@@ -21,6 +25,7 @@ public class CourseCategory {
     private CourseCategory parent;
 
     @OneToMany(mappedBy = "parent")
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course.CourseCategory.children")
     @Builder.Default
     private List<CourseCategory> children = new ArrayList<>();
 }
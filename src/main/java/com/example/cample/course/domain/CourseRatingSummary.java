@@ -0,0 +1,30 @@
+package com.example.cample.course.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+// 강의별 평점 요약(리뷰 작성/수정/삭제 시 같은 트랜잭션에서 증분 갱신)
+@Entity
+@Table(name = "course_rating_summary")
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class CourseRatingSummary {
+
+    @Id
+    @Column(name = "course_id")
+    private Long courseId;
+
+    @Column(name = "review_count", nullable = false)
+    private long reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private double ratingSum;
+
+    @Column(name = "rating_avg", nullable = false)
+    private double ratingAvg;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
@@ -2,8 +2,12 @@ package com.example.cample.course.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.DayOfWeek;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 
 @Entity
@@ -13,6 +17,8 @@ import java.time.LocalTime;
                 @Index(name = "idx_ct_day", columnList = "day_of_week")
         }
 )
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "course.CourseTime")
 @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
 public class CourseTime {
 
@@ -34,4 +40,8 @@ public class CourseTime {
 
     @Column(length = 100)
     private String room;
+
+    @UpdateTimestamp
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt; // 카탈로그 스냅샷 변경 감지용
 }
@@ -0,0 +1,197 @@
+// src/main/java/com/example/cample/course/domain/WeeklySlotMask.java
+package com.example.cample.course.domain;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * 주간 시간표 비트마스크: 7일 × 5분 슬롯(288/일) = 2016비트를 long[32] 에 담는다.
+ * 구간 [start, end) 는 floor(start) ~ ceil(end) 슬롯으로 덮기 때문에
+ * intersects()=false 면 항상 "겹치지 않음"이고, 두 마스크가 모두 exact 면 true 도 정확하다.
+ * (exact = 모든 경계가 5분 단위. 아니면 호출 측에서 실제 시각으로 한 번 더 확인)
+ */
+public final class WeeklySlotMask {
+
+    public static final int MINUTES_PER_SLOT = 5;
+    public static final int SLOTS_PER_DAY = 24 * 60 / MINUTES_PER_SLOT;   // 288
+    private static final int BITS = SLOTS_PER_DAY * 7;                    // 2016
+    private static final int WORDS = (BITS + 63) / 64;                    // 32
+
+    public static final WeeklySlotMask EMPTY = new WeeklySlotMask(new long[WORDS], true, false);
+
+    private final long[] words;
+    private final boolean exact;
+    // 요일/시각 누락, 시작>=종료 등 비트로 표현할 수 없는 슬롯 포함 여부 → 겹침 판단은 보수적으로 true
+    private final boolean irregular;
+
+    private WeeklySlotMask(long[] words, boolean exact, boolean irregular) {
+        this.words = words;
+        this.exact = exact;
+        this.irregular = irregular;
+    }
+
+    public static WeeklySlotMask of(DayOfWeek day, LocalTime start, LocalTime end) {
+        return builder().add(day, start, end).build();
+    }
+
+    public static WeeklySlotMask ofCourseTimes(Collection<CourseTime> times) {
+        Builder b = builder();
+        for (CourseTime t : times) b.add(t.getDayOfWeek(), t.getStartTime(), t.getEndTime());
+        return b.build();
+    }
+
+    // 요일 무관 구간(매일 같은 시각)
+    public static WeeklySlotMask everyDay(LocalTime start, LocalTime end) {
+        Builder b = builder();
+        for (DayOfWeek d : DayOfWeek.values()) b.add(d, start, end);
+        return b.build();
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public boolean isExact() {
+        return exact && !irregular;
+    }
+
+    public boolean isIrregular() {
+        return irregular;
+    }
+
+    public boolean isEmpty() {
+        if (irregular) return false;
+        for (long w : words) if (w != 0L) return false;
+        return true;
+    }
+
+    public boolean intersects(WeeklySlotMask o) {
+        if (irregular || o.irregular) return true;
+        for (int i = 0; i < WORDS; i++) {
+            if ((words[i] & o.words[i]) != 0L) return true;
+        }
+        return false;
+    }
+
+    // this 의 모든 슬롯이 free 안에 들어가는지 (this & ~free == 0)
+    public boolean fitsWithin(WeeklySlotMask free) {
+        if (irregular) return false;
+        for (int i = 0; i < WORDS; i++) {
+            if ((words[i] & ~free.words[i]) != 0L) return false;
+        }
+        return true;
+    }
+
+    public WeeklySlotMask or(WeeklySlotMask o) {
+        long[] out = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) out[i] = words[i] | o.words[i];
+        return new WeeklySlotMask(out, exact && o.exact, irregular || o.irregular);
+    }
+
+    /**
+     * 빈 시간(여집합). 점유 마스크가 exact 가 아니면 경계 슬롯은 점유로 남으므로
+     * 결과는 "확실히 빈" 슬롯만 담는다. (irregular 슬롯은 위치를 알 수 없어 반영하지 않음)
+     */
+    public WeeklySlotMask complement() {
+        long[] out = new long[WORDS];
+        for (int i = 0; i < WORDS; i++) out[i] = ~words[i];
+        int tail = BITS % 64;
+        if (tail != 0) out[WORDS - 1] &= (1L << tail) - 1;
+        return new WeeklySlotMask(out, exact, false);
+    }
+
+    public int cardinality() {
+        int n = 0;
+        for (long w : words) n += Long.bitCount(w);
+        return n;
+    }
+
+    // 요일별 점유 여부 (캠퍼스 등교 일수 계산 등)
+    public boolean occupies(DayOfWeek day) {
+        int from = (day.getValue() - 1) * SLOTS_PER_DAY;
+        for (int b = from; b < from + SLOTS_PER_DAY; b++) {
+            if (get(b)) return true;
+        }
+        return false;
+    }
+
+    // 해당 요일의 첫/마지막 점유 슬롯(없으면 -1)
+    public int firstSlot(DayOfWeek day) {
+        int from = (day.getValue() - 1) * SLOTS_PER_DAY;
+        for (int s = 0; s < SLOTS_PER_DAY; s++) {
+            if (get(from + s)) return s;
+        }
+        return -1;
+    }
+
+    public int lastSlot(DayOfWeek day) {
+        int from = (day.getValue() - 1) * SLOTS_PER_DAY;
+        for (int s = SLOTS_PER_DAY - 1; s >= 0; s--) {
+            if (get(from + s)) return s;
+        }
+        return -1;
+    }
+
+    public long[] toLongArray() {
+        return words.clone();
+    }
+
+    public static WeeklySlotMask fromLongArray(long[] words, boolean exact, boolean irregular) {
+        return new WeeklySlotMask(Arrays.copyOf(words, WORDS), exact, irregular);
+    }
+
+    private boolean get(int bit) {
+        return (words[bit >>> 6] & (1L << (bit & 63))) != 0L;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof WeeklySlotMask m)) return false;
+        return exact == m.exact && irregular == m.irregular && Arrays.equals(words, m.words);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Arrays.hashCode(words) + Boolean.hashCode(exact)) + Boolean.hashCode(irregular);
+    }
+
+    public static final class Builder {
+        private final long[] words = new long[WORDS];
+        private boolean exact = true;
+        private boolean irregular = false;
+
+        private Builder() {}
+
+        public Builder add(DayOfWeek day, LocalTime start, LocalTime end) {
+            if (day == null || start == null || end == null || !start.isBefore(end)) {
+                irregular = true;
+                return this;
+            }
+            int startSec = start.toSecondOfDay();
+            int endSec = end.toSecondOfDay();
+            boolean endHasNanos = end.getNano() != 0;
+            int slotSec = MINUTES_PER_SLOT * 60;
+
+            int from = startSec / slotSec;                                  // floor
+            int to = (endSec + (endHasNanos ? 1 : 0) + slotSec - 1) / slotSec; // ceil (exclusive)
+            if (startSec % slotSec != 0 || start.getNano() != 0
+                    || endSec % slotSec != 0 || endHasNanos) {
+                exact = false;
+            }
+
+            int base = (day.getValue() - 1) * SLOTS_PER_DAY;
+            for (int s = from; s < Math.min(to, SLOTS_PER_DAY); s++) {
+                int bit = base + s;
+                words[bit >>> 6] |= 1L << (bit & 63);
+            }
+            return this;
+        }
+
+        public WeeklySlotMask build() {
+            return new WeeklySlotMask(words.clone(), exact, irregular);
+        }
+    }
+}
@@ -64,6 +64,31 @@ public class CourseDto {
                 .build();
     }
 
+    // 캐시에 공유된 인스턴스를 꺼낼 때 사용(시간 슬롯까지 새 객체)
+    public CourseDto copy() {
+        return CourseDto.builder()
+                .id(id)
+                .semesterCode(semesterCode)
+                .courseCode(courseCode)
+                .name(name)
+                .professor(professor)
+                .section(section)
+                .credit(credit)
+                .year(year)
+                .categoryId(categoryId)
+                .categoryName(categoryName)
+                .times(times.stream().map(t -> Slot.builder()
+                        .dayOfWeek(t.getDayOfWeek())
+                        .startTime(t.getStartTime())
+                        .endTime(t.getEndTime())
+                        .room(t.getRoom())
+                        .build()).collect(Collectors.toList()))
+                .ratingAvg(ratingAvg)
+                .ratingCount(ratingCount)
+                .reviews(new ArrayList<>(reviews))
+                .build();
+    }
+
     // 단건 상세용(리뷰 포함)
     public static CourseDto fromDetailed(Course c, List<CourseTime> timeList, Double avg, Long count,
                                          List<ReviewResponse> reviewList) {
@@ -0,0 +1,24 @@
+// src/main/java/com/example/cample/course/dto/CourseImportResult.java
+package com.example.cample.course.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class CourseImportResult {
+    private String semesterCode;
+    private boolean dryRun;
+
+    private int inserted;
+    private int updated;
+    private int skipped;     // 내용 해시가 같아 건너뜀
+    private int invalid;     // 형식 오류/중복 행
+    private int missing;     // DB 에는 있으나 CSV 에 없는 강의(삭제하지 않음)
+
+    @Builder.Default
+    private List<String> errors = new ArrayList<>(); // 앞부분 일부만
+
+    private long elapsedMs;
+}
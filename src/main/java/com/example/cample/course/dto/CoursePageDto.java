@@ -0,0 +1,17 @@
+// src/main/java/com/example/cample/course/dto/CoursePageDto.java
+package com.example.cample.course.dto;
+
+import lombok.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class CoursePageDto {
+
+    @Builder.Default
+    private List<CourseDto> items = new ArrayList<>();
+
+    private String nextCursor;   // 다음 페이지 요청 시 cursor 로 그대로 전달(마지막 페이지면 null)
+    private boolean hasNext;
+}
@@ -0,0 +1,29 @@
+// src/main/java/com/example/cample/course/dto/CourseSearchParams.java
+package com.example.cample.course.dto;
+
+import lombok.*;
+
+// 페이지/스트리밍 검색용 쿼리 파라미터 묶음(이름은 GET /api/courses 와 동일)
+@Getter @Setter @NoArgsConstructor
+public class CourseSearchParams {
+    private Long categoryId;
+    private Integer credit;
+    private String year;
+    private String years;
+    private boolean yearsEtcOnly;
+    private String credits;
+    private String sort = "default";
+    private String days;
+    private String startTime;
+    private String endTime;
+    private String ranges;
+    private String windows;
+
+    // 단일 선택 키워드
+    private String q;
+    private String professor;
+    private String courseCode;
+    private String room;
+    private String chosung;
+    private boolean chosungPrefix;
+}
@@ -0,0 +1,10 @@
+// src/main/java/com/example/cample/course/dto/CourseSuggestDto.java
+package com.example.cample.course.dto;
+
+import lombok.*;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class CourseSuggestDto {
+    private String text;   // 표시 문자열(원문)
+    private String type;   // NAME | PROFESSOR | CODE
+}
@@ -0,0 +1,42 @@
+package com.example.cample.course.repo;
+
+import com.example.cample.course.domain.CourseRatingSummary;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+public interface CourseRatingSummaryRepository extends JpaRepository<CourseRatingSummary, Long> {
+
+    // 증분 반영(행이 없으면 생성). MySQL 은 ON DUPLICATE KEY UPDATE 를 왼쪽부터 평가하므로 avg 는 갱신된 값 기준
+    @Modifying
+    @Query(value = """
+        insert into course_rating_summary (course_id, review_count, rating_sum, rating_avg, updated_at)
+        values (:courseId, greatest(:dCount, 0), greatest(:dSum, 0),
+                case when :dCount > 0 then :dSum / :dCount else 0 end, now())
+        on duplicate key update
+            review_count = review_count + :dCount,
+            rating_sum   = rating_sum + :dSum,
+            rating_avg   = case when review_count > 0 then rating_sum / review_count else 0 end,
+            updated_at   = now()
+        """, nativeQuery = true)
+    int applyDelta(@Param("courseId") Long courseId,
+                   @Param("dCount") long dCount,
+                   @Param("dSum") double dSum);
+
+    // course_reviews 에서 다시 집계해 덮어쓰기(정합성 점검용).
+    // 집계와 쓰기를 한 문장으로: INSERT ... SELECT 의 원본 읽기는 잠금 읽기라 진행 중인 리뷰 쓰기가 커밋될 때까지 기다리고,
+    // 이후 커밋되는 리뷰의 applyDelta 는 이 값 위에 더해진다(따로 읽고 덮어쓰면 그 사이 증분이 사라짐)
+    @Modifying
+    @Query(value = """
+        insert into course_rating_summary (course_id, review_count, rating_sum, rating_avg, updated_at)
+        select t.course_id, t.cnt, t.total, case when t.cnt > 0 then t.total / t.cnt else 0 end, now()
+        from (select :courseId as course_id, count(*) as cnt, coalesce(sum(r.rating), 0) as total
+              from course_reviews r
+              where r.course_id = :courseId and r.deleted = false) t
+        on duplicate key update
+            review_count = t.cnt,
+            rating_sum   = t.total,
+            rating_avg   = case when t.cnt > 0 then t.total / t.cnt else 0 end,
+            updated_at   = now()
+        """, nativeQuery = true)
+    int recompute(@Param("courseId") Long courseId);
+}
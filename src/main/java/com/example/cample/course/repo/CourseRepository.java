@@ -6,11 +6,43 @@ import org.springframework.data.jpa.repository.*;
 import org.springframework.data.repository.query.Param;
 
 import java.time.DayOfWeek;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface CourseRepository extends JpaRepository<Course, Long>, JpaSpecificationExecutor<Course> {
 
+    // 카탈로그 스냅샷 빌드용(카테고리 fetch join)
+    @Query("""
+        select c from Course c
+        left join fetch c.category
+        where c.semesterCode = :semester
+    """)
+    List<Course> findAllBySemesterWithCategory(@Param("semester") String semester);
+
+    // 상세/시간표 목록용: category 를 같은 쿼리로 가져와 CourseDto.from 에서 추가 조회가 없게
+    @Query("select c from Course c left join fetch c.category where c.id = :id")
+    Optional<Course> findByIdWithCategory(@Param("id") Long id);
+
+    @Query("select c from Course c left join fetch c.category where c.id in :ids")
+    List<Course> findAllByIdWithCategory(@Param("ids") Collection<Long> ids);
+
+    // 카탈로그 변경 감지용: 행 추가/삭제(cnt, maxId) + 수정(maxUpdatedAt)
+    interface Fingerprint {
+        Long getCnt();
+        Long getMaxId();
+        LocalDateTime getMaxUpdatedAt();
+    }
+
+    @Query("""
+        select count(c) as cnt, coalesce(max(c.id), 0L) as maxId, max(c.updatedAt) as maxUpdatedAt
+        from Course c
+        where c.semesterCode = :semester
+    """)
+    Fingerprint fingerprint(@Param("semester") String semester);
+
     // "한 요일 · 한 구간" 단위 쿼리. 여러 조합은 Service에서 합집합 처리.
     @Query("""
         select distinct c from Course c
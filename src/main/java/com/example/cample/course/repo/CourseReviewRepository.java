@@ -31,4 +31,19 @@ public interface CourseReviewRepository extends JpaRepository<CourseReview, Long
         where r.course.id = :courseId and r.deleted = false
     """)
     CountAvg countAndAvg(@Param("courseId") Long courseId);
+
+    // 평점 요약 테이블 재계산(정합성 점검용)
+    interface CountSum {
+        Long getCourseId();
+        Long getCnt();
+        Double getSum();
+    }
+
+    @Query("""
+        select r.course.id as courseId, count(r) as cnt, coalesce(sum(r.rating), 0.0d) as sum
+        from CourseReview r
+        where r.deleted = false
+        group by r.course.id
+    """)
+    List<CountSum> countAndSumByCourse();
 }
@@ -1,12 +1,33 @@
 package com.example.cample.course.repo;
 
 import com.example.cample.course.domain.CourseTime;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.util.Collection;
 import java.util.List;
 
 public interface CourseTimeRepository extends JpaRepository<CourseTime, Long> {
+    // 강의 상세/시간표용 단건 조회: 쿼리 캐시(결과 id) + 엔티티 2차 캐시
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.reference")
+    })
     List<CourseTime> findByCourseId(Long courseId);
     List<CourseTime> findByCourseIdIn(Collection<Long> course_id);
+
+    // 카탈로그 스냅샷 빌드용: 학기 전체 강의시간
+    @Query("select t from CourseTime t where t.course.semesterCode = :semester")
+    List<CourseTime> findBySemesterCode(@Param("semester") String semester);
+
+    @Query("""
+        select count(t) as cnt, coalesce(max(t.id), 0L) as maxId, max(t.updatedAt) as maxUpdatedAt
+        from CourseTime t
+        where t.course.semesterCode = :semester
+    """)
+    CourseRepository.Fingerprint fingerprint(@Param("semester") String semester);
 }
@@ -0,0 +1,374 @@
+// src/main/java/com/example/cample/course/service/CourseCatalog.java
+package com.example.cample.course.service;
+
+import com.example.cample.course.domain.Course;
+import com.example.cample.course.domain.CourseTime;
+import com.example.cample.course.domain.WeeklySlotMask;
+import com.example.cample.course.dto.CourseDto;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 현재 학기 강의/강의시간의 불변 스냅샷 + 포스팅 리스트(BitSet) 인덱스.
+ * 카테고리/학년/학점/요일/시간대별 후보를 비트 연산으로 좁힌 뒤,
+ * 남은 후보만 searchOneWindow 와 같은 조건으로 검증한다.
+ */
+public final class CourseCatalog {
+
+    public record Slot(DayOfWeek dayOfWeek, LocalTime startTime, LocalTime endTime, String room) {}
+
+    public record Entry(Long id, String semesterCode, String courseCode, String name, String professor,
+                        String section, Integer credit, String year, Long categoryId, String categoryName,
+                        List<Slot> slots, WeeklySlotMask mask) {
+
+        // 리스트/검색용 DTO (요청마다 새로 만든다: CourseDto 는 가변 객체)
+        public CourseDto toDto(Double avg, Long count) {
+            return CourseDto.builder()
+                    .id(id)
+                    .semesterCode(semesterCode)
+                    .courseCode(courseCode)
+                    .name(name)
+                    .professor(professor)
+                    .section(section)
+                    .credit(credit)
+                    .year(year)
+                    .categoryId(categoryId)
+                    .categoryName(categoryName)
+                    .times(slots.stream().map(s -> CourseDto.Slot.builder()
+                            .dayOfWeek(s.dayOfWeek())
+                            .startTime(s.startTime())
+                            .endTime(s.endTime())
+                            .room(s.room())
+                            .build()).collect(Collectors.toList()))
+                    .ratingAvg(avg)
+                    .ratingCount(count)
+                    .build();
+        }
+    }
+
+    static final String SUGGEST_NAME = "NAME";
+    static final String SUGGEST_PROFESSOR = "PROFESSOR";
+    static final String SUGGEST_CODE = "CODE";
+    static final int SUGGEST_MAX = 20;
+
+    // "한 요일 · 한 구간" 조건. null 은 미필터
+    public record Window(DayOfWeek day, LocalTime start, LocalTime end) {}
+
+    private final long version;
+    private final LocalDateTime builtAt;
+    private final Entry[] entries;                       // id 오름차순
+    private final Map<Long, Integer> posById;
+    private final BitSet all;
+    private final Map<Long, BitSet> byCategory;
+    private final Map<String, BitSet> byYear;
+    private final Map<Integer, BitSet> byCredit;
+    private final BitSet byCreditGte4;
+    private final EnumMap<DayOfWeek, BitSet> byDay;
+    private final BitSet[] byHour;                       // [0..23] 해당 시간대에 걸친 강의시간이 있는 강의
+    private final BitSet irregularTime;                  // 시작>=종료 등 시간대 인덱스로 표현 못 하는 강의
+    private final NGramIndex nameIndex;
+    private final NGramIndex professorIndex;
+    private final NGramIndex codeIndex;
+    private final NGramIndex chosungIndex;               // 강의명 초성 키("ㅈㄹㄱㅈ")
+    private final SuggestTrie suggestTrie;               // 자동완성(강의명/교수/학수번호)
+
+    private CourseCatalog(long version, List<Entry> sorted, Map<Long, Long> popularity) {
+        this.version = version;
+        this.builtAt = LocalDateTime.now();
+        this.entries = sorted.toArray(new Entry[0]);
+        this.posById = new HashMap<>(entries.length * 2);
+        this.all = new BitSet(entries.length);
+        this.byCategory = new HashMap<>();
+        this.byYear = new HashMap<>();
+        this.byCredit = new HashMap<>();
+        this.byCreditGte4 = new BitSet(entries.length);
+        this.byDay = new EnumMap<>(DayOfWeek.class);
+        this.byHour = new BitSet[24];
+        this.irregularTime = new BitSet(entries.length);
+        for (int h = 0; h < 24; h++) byHour[h] = new BitSet(entries.length);
+
+        for (int i = 0; i < entries.length; i++) {
+            Entry e = entries[i];
+            posById.put(e.id(), i);
+            all.set(i);
+            if (e.categoryId() != null) byCategory.computeIfAbsent(e.categoryId(), k -> new BitSet()).set(i);
+            if (e.year() != null) byYear.computeIfAbsent(e.year(), k -> new BitSet()).set(i);
+            if (e.credit() != null) {
+                byCredit.computeIfAbsent(e.credit(), k -> new BitSet()).set(i);
+                if (e.credit() >= 4) byCreditGte4.set(i);
+            }
+            for (Slot s : e.slots()) {
+                if (s.dayOfWeek() != null) byDay.computeIfAbsent(s.dayOfWeek(), k -> new BitSet()).set(i);
+                if (s.startTime() == null || s.endTime() == null) continue; // 시간 조건에 절대 매칭되지 않음
+                if (!s.startTime().isBefore(s.endTime())) {
+                    irregularTime.set(i);
+                    continue;
+                }
+                int from = s.startTime().getHour();
+                int to = s.endTime().minusNanos(1).getHour();
+                for (int h = from; h <= to; h++) byHour[h].set(i);
+            }
+        }
+
+        this.nameIndex = NGramIndex.build(sorted.stream().map(Entry::name).toList());
+        this.professorIndex = NGramIndex.build(sorted.stream().map(Entry::professor).toList());
+        this.codeIndex = NGramIndex.build(sorted.stream().map(Entry::courseCode).toList());
+        this.chosungIndex = NGramIndex.build(sorted.stream().map(e -> Hangul.chosungKey(e.name())).toList());
+        this.suggestTrie = buildSuggestTrie(sorted, popularity);
+    }
+
+    /**
+     * @param popularity courseId → 시간표 담기 수(자동완성 순위). 없는 강의는 0
+     */
+    public static CourseCatalog build(long version, List<Course> courses, List<CourseTime> times,
+                                      Map<Long, Long> popularity) {
+        Map<Long, List<Slot>> slotsByCourse = new HashMap<>();
+        for (CourseTime t : times) {
+            slotsByCourse.computeIfAbsent(t.getCourse().getId(), k -> new ArrayList<>())
+                    .add(new Slot(t.getDayOfWeek(), t.getStartTime(), t.getEndTime(), t.getRoom()));
+        }
+        List<Entry> list = new ArrayList<>(courses.size());
+        for (Course c : courses) {
+            list.add(entryOf(c, slotsByCourse.getOrDefault(c.getId(), List.of())));
+        }
+        list.sort(Comparator.comparing(Entry::id));
+        return new CourseCatalog(version, list, popularity);
+    }
+
+    // category 는 로딩되어 있어야 한다(fetch join)
+    static Entry entryOf(Course c, List<Slot> slotList) {
+        List<Slot> slots = List.copyOf(slotList);
+        WeeklySlotMask.Builder mask = WeeklySlotMask.builder();
+        for (Slot s : slots) mask.add(s.dayOfWeek(), s.startTime(), s.endTime());
+        return new Entry(
+                c.getId(), c.getSemesterCode(), c.getCourseCode(), c.getName(), c.getProfessor(),
+                c.getSection(), c.getCredit(), c.getYear(),
+                c.getCategory() != null ? c.getCategory().getId() : null,
+                c.getCategory() != null ? c.getCategory().getName() : null,
+                slots, mask.build()
+        );
+    }
+
+    // 같은 (종류, 정규화 문자열)은 하나로 묶고 점수는 해당 강의들의 인기도 합
+    private static SuggestTrie buildSuggestTrie(List<Entry> sorted, Map<Long, Long> popularity) {
+        Map<String, Integer> idxByKey = new HashMap<>();
+        List<String> texts = new ArrayList<>();
+        List<String> types = new ArrayList<>();
+        List<Long> scores = new ArrayList<>();
+        List<Map.Entry<String, Integer>> keyed = new ArrayList<>();
+
+        for (Entry e : sorted) {
+            long pop = popularity.getOrDefault(e.id(), 0L);
+            String[][] terms = {
+                    {SUGGEST_NAME, e.name()},
+                    {SUGGEST_PROFESSOR, e.professor()},
+                    {SUGGEST_CODE, e.courseCode()}
+            };
+            for (String[] t : terms) {
+                String text = t[1] != null ? t[1].trim() : null;
+                if (text == null || text.isEmpty()) continue;
+                String key = NGramIndex.normalize(text);
+                Integer idx = idxByKey.get(t[0] + '\u0000' + key);
+                if (idx == null) {
+                    idx = texts.size();
+                    idxByKey.put(t[0] + '\u0000' + key, idx);
+                    texts.add(text);
+                    types.add(t[0]);
+                    scores.add(0L);
+                    keyed.add(Map.entry(key, idx));
+                    if (t[0].equals(SUGGEST_NAME)) {
+                        String cho = Hangul.chosungKey(text);
+                        if (!cho.isEmpty() && !cho.equals(key)) keyed.add(Map.entry(cho, idx));
+                    }
+                }
+                scores.set(idx, scores.get(idx) + pop);
+            }
+        }
+
+        List<SuggestTrie.Suggestion> suggestions = new ArrayList<>(texts.size());
+        for (int i = 0; i < texts.size(); i++) {
+            suggestions.add(new SuggestTrie.Suggestion(texts.get(i), types.get(i), scores.get(i)));
+        }
+        return SuggestTrie.build(suggestions, keyed, SUGGEST_MAX);
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public LocalDateTime builtAt() {
+        return builtAt;
+    }
+
+    public int size() {
+        return entries.length;
+    }
+
+    // 입력 접두사(강의명/교수/학수번호, 강의명 초성)로 시작하는 상위 limit 개 자동완성 후보
+    List<SuggestTrie.Suggestion> suggest(String prefix, int limit) {
+        String q = NGramIndex.normalize(prefix);
+        return q == null ? List.of() : suggestTrie.suggest(q.strip(), limit);
+    }
+
+    public Optional<Entry> get(Long courseId) {
+        Integer pos = (courseId == null) ? null : posById.get(courseId);
+        return pos == null ? Optional.empty() : Optional.of(entries[pos]);
+    }
+
+    // 학수번호가 정확히 같은 분반 전체(대소문자 무시, id 오름차순)
+    public List<Entry> sectionsOf(String courseCode) {
+        String q = NGramIndex.normalize(courseCode);
+        if (q == null || q.isBlank()) return List.of();
+        q = q.strip();
+        BitSet cand = codeIndex.match(q);
+        List<Entry> out = new ArrayList<>();
+        for (int i = cand.nextSetBit(0); i >= 0; i = cand.nextSetBit(i + 1)) {
+            if (q.equals(NGramIndex.normalize(entries[i].courseCode()))) out.add(entries[i]);
+        }
+        return out;
+    }
+
+    /**
+     * searchInternalV2 의 조합 쿼리(합집합)와 같은 결과를 반환한다.
+     * years / creditEquals 가 비어 있고 creditGte4=false 면 해당 필터는 적용하지 않는다.
+     * windows 가 비어 있으면 시간 조건 없음(강의시간이 없는 강의도 포함).
+     * chosung 은 강의명 초성 검색(chosungPrefix=true 면 앞부분 일치만).
+     */
+    public List<Entry> search(Long categoryId,
+                              Collection<String> years,
+                              Collection<Integer> creditEquals, boolean creditGte4,
+                              String name, String prof, String code, String room,
+                              String chosung, boolean chosungPrefix,
+                              List<Window> windows) {
+        BitSet base = (BitSet) all.clone();
+
+        if (categoryId != null) base.and(postingOf(byCategory.get(categoryId)));
+
+        if (years != null && !years.isEmpty()) {
+            BitSet ys = new BitSet(entries.length);
+            for (String y : years) {
+                if (y != null) ys.or(postingOf(byYear.get(y)));
+            }
+            base.and(ys);
+        }
+
+        boolean hasCreditEq = creditEquals != null && !creditEquals.isEmpty();
+        if (hasCreditEq || creditGte4) {
+            BitSet cs = new BitSet(entries.length);
+            if (hasCreditEq) {
+                for (Integer c : creditEquals) {
+                    if (c != null) cs.or(postingOf(byCredit.get(c)));
+                }
+            }
+            if (creditGte4) cs.or(byCreditGte4);
+            base.and(cs);
+        }
+
+        // 강의명/교수/학수번호: n-gram 역색인으로 해석(테이블 스캔 없음)
+        if (hasText(name)) base.and(nameIndex.match(name.trim()));
+        if (hasText(prof)) base.and(professorIndex.match(prof.trim()));
+        if (hasText(code)) base.and(codeIndex.match(code.trim()));
+        if (hasText(chosung)) {
+            String key = Hangul.chosungKey(chosung);
+            if (!key.isEmpty()) base.and(chosungPrefix ? chosungIndex.matchPrefix(key) : chosungIndex.match(key));
+        }
+
+        List<Window> ws = (windows == null || windows.isEmpty())
+                ? List.of(new Window(null, null, null))
+                : windows;
+        String roomQ = lowerOrNull(room);
+
+        LinkedHashSet<Integer> acc = new LinkedHashSet<>();
+        for (Window w : ws) {
+            BitSet cand = (BitSet) base.clone();
+            if (w.day() != null) cand.and(postingOf(byDay.get(w.day())));
+            BitSet hours = hourPostingOf(w);
+            if (hours != null) cand.and(hours);
+            WeeklySlotMask windowMask = overlapMaskOf(w);
+
+            boolean needsSlot = roomQ != null || w.day() != null || w.start() != null || w.end() != null;
+            for (int i = cand.nextSetBit(0); i >= 0; i = cand.nextSetBit(i + 1)) {
+                if (windowMask != null && !entries[i].mask().intersects(windowMask)) continue;
+                if (!needsSlot || anySlotMatches(entries[i], roomQ, w)) acc.add(i);
+            }
+        }
+
+        List<Entry> out = new ArrayList<>(acc.size());
+        for (Integer i : acc) out.add(entries[i]);
+        return out;
+    }
+
+    // 시간 조건 후보(시간대 포스팅 합집합). 조건이 없거나 인덱스로 표현 불가하면 null
+    private BitSet hourPostingOf(Window w) {
+        LocalTime s = w.start();
+        LocalTime e = w.end();
+        int from;
+        int to;
+        if (s != null && e != null) {
+            if (!s.isBefore(e)) return null;
+            from = s.getHour();
+            to = e.minusNanos(1).getHour();
+        } else if (s != null) {
+            from = to = s.getHour();
+        } else if (e != null) {
+            if (e.equals(LocalTime.MIDNIGHT)) return null;
+            from = to = e.minusNanos(1).getHour();
+        } else {
+            return null;
+        }
+        BitSet out = (BitSet) irregularTime.clone();
+        for (int h = from; h <= to; h++) out.or(byHour[h]);
+        return out;
+    }
+
+    // start/end 가 모두 있는 구간은 순수 겹침 조건 → 비트마스크로 먼저 거른다
+    private WeeklySlotMask overlapMaskOf(Window w) {
+        if (w.start() == null || w.end() == null || !w.start().isBefore(w.end())) return null;
+        return (w.day() != null)
+                ? WeeklySlotMask.of(w.day(), w.start(), w.end())
+                : WeeklySlotMask.everyDay(w.start(), w.end());
+    }
+
+    // CourseRepository.searchOneWindow 의 left join 조건과 동일 (같은 강의시간 row 에서 모두 만족)
+    private boolean anySlotMatches(Entry e, String roomQ, Window w) {
+        for (Slot t : e.slots()) {
+            if (roomQ != null && !containsLower(t.room(), roomQ)) continue;
+            if (w.day() != null && t.dayOfWeek() != w.day()) continue;
+            if (!timeMatches(t, w.start(), w.end())) continue;
+            return true;
+        }
+        return false;
+    }
+
+    private boolean timeMatches(Slot t, LocalTime start, LocalTime end) {
+        if (start == null && end == null) return true;
+        LocalTime ts = t.startTime();
+        LocalTime te = t.endTime();
+        if (ts == null || te == null) return false;
+        if (end == null) return !ts.isAfter(start) && te.isAfter(start);
+        if (start == null) return ts.isBefore(end) && !te.isBefore(end);
+        return ts.isBefore(end) && te.isAfter(start);
+    }
+
+    private BitSet postingOf(BitSet b) {
+        return b != null ? b : new BitSet(0);
+    }
+
+    private static boolean hasText(String s) {
+        return s != null && !s.isBlank();
+    }
+
+    private static String lowerOrNull(String s) {
+        if (s == null) return null;
+        String t = s.trim();
+        return t.isEmpty() ? null : t.toLowerCase(Locale.ROOT);
+    }
+
+    private static boolean containsLower(String value, String lowerQuery) {
+        return value != null && value.toLowerCase(Locale.ROOT).contains(lowerQuery);
+    }
+}
@@ -0,0 +1,107 @@
+// src/main/java/com/example/cample/course/service/CourseCatalogService.java
+package com.example.cample.course.service;
+
+import com.example.cample.common.constant.SemesterConst;
+import com.example.cample.course.domain.Course;
+import com.example.cample.course.domain.CourseTime;
+import com.example.cample.course.repo.CourseRepository;
+import com.example.cample.course.repo.CourseTimeRepository;
+import com.example.cample.timetable.repo.TimetableItemRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * 현재 학기 강의 카탈로그 스냅샷 보관/재빌드.
+ * 검색은 항상 current() 스냅샷만 읽고, 재빌드는 백그라운드에서 새 스냅샷을 만든 뒤 원자적으로 교체한다.
+ * 자동완성 트라이도 스냅샷에 포함되며, 인기도(시간표 담기 수)는 max-age 주기 재빌드 때 갱신된다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CourseCatalogService {
+
+    private final CourseRepository courseRepo;
+    private final CourseTimeRepository timeRepo;
+    private final TimetableItemRepository itemRepo;
+
+    @Value("${app.course.catalog.max-age:PT10M}")
+    private Duration maxAge;
+
+    private final AtomicReference<CourseCatalog> current = new AtomicReference<>();
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private final AtomicLong versionSeq = new AtomicLong();
+    private volatile String lastFingerprint;
+
+    public CourseCatalog current() {
+        CourseCatalog c = current.get();
+        if (c != null) return c;
+        synchronized (this) {
+            c = current.get();
+            return (c != null) ? c : rebuild();
+        }
+    }
+
+    // 강의/강의시간을 쓴 쪽에서 호출 → 다음 주기에 재빌드
+    public void markDirty() {
+        dirty.set(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.warn("강의 카탈로그 초기 빌드 실패, 첫 검색 시 재시도", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.course.catalog.refresh-interval:PT30S}",
+            initialDelayString = "${app.course.catalog.refresh-interval:PT30S}")
+    public void refreshIfChanged() {
+        CourseCatalog c = current.get();
+        boolean expired = c == null || c.builtAt().plus(maxAge).isBefore(LocalDateTime.now());
+        if (dirty.get() || expired || !fingerprint().equals(lastFingerprint)) {
+            rebuild();
+        }
+    }
+
+    public synchronized CourseCatalog rebuild() {
+        dirty.set(false);
+        String fp = fingerprint();
+        String semester = SemesterConst.SEMESTER_CODE;
+        List<Course> courses = courseRepo.findAllBySemesterWithCategory(semester);
+        List<CourseTime> times = timeRepo.findBySemesterCode(semester);
+        Map<Long, Long> popularity = new HashMap<>();
+        for (TimetableItemRepository.Popularity p : itemRepo.popularityBySemester(semester)) {
+            popularity.put(p.getCourseId(), p.getCnt());
+        }
+
+        CourseCatalog next = CourseCatalog.build(versionSeq.incrementAndGet(), courses, times, popularity);
+        current.set(next);
+        lastFingerprint = fp;
+        log.info("강의 카탈로그 재빌드: version={}, courses={}, times={}", next.version(), courses.size(), times.size());
+        return next;
+    }
+
+    private String fingerprint() {
+        String semester = SemesterConst.SEMESTER_CODE;
+        CourseRepository.Fingerprint c = courseRepo.fingerprint(semester);
+        CourseRepository.Fingerprint t = timeRepo.fingerprint(semester);
+        return c.getCnt() + ":" + c.getMaxId() + ":" + c.getMaxUpdatedAt()
+                + "/" + t.getCnt() + ":" + t.getMaxId() + ":" + t.getMaxUpdatedAt();
+    }
+}
@@ -0,0 +1,393 @@
+// src/main/java/com/example/cample/course/service/CourseImportService.java
+package com.example.cample.course.service;
+
+import com.example.cample.common.cache.ReferenceCacheEvictor;
+import com.example.cample.common.constant.SemesterConst;
+import com.example.cample.common.exception.ApiException;
+import com.example.cample.course.dto.CourseImportResult;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.support.GeneratedKeyHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.*;
+
+/**
+ * 학기 강의 카탈로그 CSV 임포트.
+ * 헤더: course_code, name 필수 / section, professor, credit, year, category, target_department, times, semester_code 선택
+ * times 예: "MON 09:00-10:15 공학관101; WED 09:00-10:15 공학관101" (요일 MON~SUN 또는 월~일, 강의실 생략 가능)
+ *
+ * (semester_code, course_code, section) 으로 기존 행과 맞추고 내용 해시가 다른 행만 JDBC 배치로 쓴다.
+ * 갱신 시 course id 는 유지하고 강의시간만 교체하므로 시간표/리뷰 참조는 그대로 남는다.
+ * CSV 에 없는 기존 강의는 참조가 있을 수 있어 삭제하지 않고 개수만 보고한다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CourseImportService {
+
+    private static final int BATCH_SIZE = 500;
+    private static final int MAX_ERRORS = 50;
+    private static final DateTimeFormatter HM = DateTimeFormatter.ofPattern("H:mm");
+
+    private final JdbcTemplate jdbc;
+    private final NamedParameterJdbcTemplate namedJdbc;
+    private final CourseCatalogService catalogService;
+    private final CourseLookupCache courseLookup;
+    private final ReferenceCacheEvictor cacheEvictor;
+
+    private record TimeRow(DayOfWeek day, LocalTime start, LocalTime end, String room) {}
+
+    private record Row(String courseCode, String section, String name, String professor, Integer credit,
+                       String year, String category, String targetDepartment, List<TimeRow> times, String hash) {
+        String key() {
+            return keyOf(courseCode, section);
+        }
+    }
+
+    private record Existing(long id, String hash) {}
+
+    private record Update(long id, Row row) {}
+
+    @Transactional
+    public CourseImportResult importCsv(InputStream in, String semesterCode, boolean dryRun) throws IOException {
+        long t0 = System.nanoTime();
+        String semester = (semesterCode == null || semesterCode.isBlank())
+                ? SemesterConst.SEMESTER_CODE : semesterCode.trim();
+
+        // 1) 스트리밍 파싱(레코드 단위) + 파일 내 중복 키 검사
+        Map<String, Row> rows = new LinkedHashMap<>();
+        List<String> errors = new ArrayList<>();
+        int invalid = 0;
+        try (CsvRecordReader reader = new CsvRecordReader(new InputStreamReader(in, StandardCharsets.UTF_8))) {
+            List<String> header = reader.next();
+            if (header == null) throw new ApiException(HttpStatus.BAD_REQUEST, "빈 CSV 파일입니다");
+            Map<String, Integer> col = headerIndex(header);
+            for (String required : List.of("course_code", "name")) {
+                if (!col.containsKey(required)) {
+                    throw new ApiException(HttpStatus.BAD_REQUEST, "필수 컬럼 누락: " + required);
+                }
+            }
+            List<String> rec;
+            while ((rec = reader.next()) != null) {
+                try {
+                    Row r = parseRow(rec, col, semester);
+                    if (rows.putIfAbsent(r.key(), r) != null) {
+                        throw new IllegalArgumentException("중복 행(course_code, section): " + r.courseCode());
+                    }
+                } catch (IllegalArgumentException e) {
+                    invalid++;
+                    if (errors.size() < MAX_ERRORS) errors.add(reader.line() + "행: " + e.getMessage());
+                }
+            }
+        }
+
+        // 2) 기존 행과 비교
+        Map<String, Existing> existing = loadExisting(semester);
+        List<Row> inserts = new ArrayList<>();
+        List<Update> updates = new ArrayList<>();
+        int skipped = 0;
+        for (Row r : rows.values()) {
+            Existing e = existing.get(r.key());
+            if (e == null) inserts.add(r);
+            else if (r.hash().equals(e.hash())) skipped++;
+            else updates.add(new Update(e.id(), r));
+        }
+        int missing = 0;
+        for (String k : existing.keySet()) {
+            if (!rows.containsKey(k)) missing++;
+        }
+
+        // 3) 변경분만 배치 쓰기
+        if (!dryRun && (!inserts.isEmpty() || !updates.isEmpty())) {
+            List<Row> touched = new ArrayList<>(inserts);
+            updates.forEach(u -> touched.add(u.row()));
+            Map<String, Long> categoryIds = resolveCategories(touched);
+
+            insertCourses(semester, inserts, categoryIds);
+            updateCourses(updates, categoryIds);
+            deleteTimes(updates.stream().map(Update::id).toList());
+
+            Map<String, Existing> ids = inserts.isEmpty() ? existing : loadExisting(semester);
+            List<Object[]> timeArgs = new ArrayList<>();
+            for (Row r : touched) {
+                long courseId = ids.get(r.key()).id();
+                for (TimeRow t : r.times()) {
+                    timeArgs.add(new Object[]{courseId, t.day().name(), t.start(), t.end(), t.room()});
+                }
+            }
+            jdbc.batchUpdate(
+                    "insert into course_times (course_id, day_of_week, start_time, end_time, room, updated_at) values (?, ?, ?, ?, ?, now())",
+                    timeArgs, BATCH_SIZE, (ps, a) -> {
+                        ps.setLong(1, (Long) a[0]);
+                        ps.setString(2, (String) a[1]);
+                        ps.setObject(3, a[2]);
+                        ps.setObject(4, a[3]);
+                        ps.setString(5, (String) a[4]);
+                    });
+
+            markCatalogDirtyAfterCommit();
+        }
+
+        long elapsedMs = (System.nanoTime() - t0) / 1_000_000;
+        log.info("강의 CSV 임포트{}: semester={}, inserted={}, updated={}, skipped={}, invalid={}, missing={}, {}ms",
+                dryRun ? "(dry-run)" : "", semester, inserts.size(), updates.size(), skipped, invalid, missing, elapsedMs);
+
+        return CourseImportResult.builder()
+                .semesterCode(semester)
+                .dryRun(dryRun)
+                .inserted(inserts.size())
+                .updated(updates.size())
+                .skipped(skipped)
+                .invalid(invalid)
+                .missing(missing)
+                .errors(errors)
+                .elapsedMs(elapsedMs)
+                .build();
+    }
+
+    // ===== 쓰기 =====
+
+    private void insertCourses(String semester, List<Row> inserts, Map<String, Long> categoryIds) {
+        if (inserts.isEmpty()) return;
+        jdbc.batchUpdate("""
+                insert into courses
+                    (semester_code, course_code, section, name, professor, credit, `year`,
+                     category_id, target_department, content_hash, updated_at)
+                values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, now())
+                """, inserts, BATCH_SIZE, (ps, r) -> {
+            ps.setString(1, semester);
+            ps.setString(2, r.courseCode());
+            ps.setString(3, r.section());
+            ps.setString(4, r.name());
+            ps.setString(5, r.professor());
+            ps.setObject(6, r.credit(), Types.INTEGER);
+            ps.setString(7, r.year());
+            ps.setObject(8, r.category() != null ? categoryIds.get(r.category()) : null, Types.BIGINT);
+            ps.setString(9, r.targetDepartment());
+            ps.setString(10, r.hash());
+        });
+    }
+
+    private void updateCourses(List<Update> updates, Map<String, Long> categoryIds) {
+        if (updates.isEmpty()) return;
+        jdbc.batchUpdate("""
+                update courses
+                   set name = ?, professor = ?, credit = ?, `year` = ?,
+                       category_id = ?, target_department = ?, content_hash = ?,
+                       updated_at = now()
+                 where id = ?
+                """, updates, BATCH_SIZE, (ps, u) -> {
+            Row r = u.row();
+            ps.setString(1, r.name());
+            ps.setString(2, r.professor());
+            ps.setObject(3, r.credit(), Types.INTEGER);
+            ps.setString(4, r.year());
+            ps.setObject(5, r.category() != null ? categoryIds.get(r.category()) : null, Types.BIGINT);
+            ps.setString(6, r.targetDepartment());
+            ps.setString(7, r.hash());
+            ps.setLong(8, u.id());
+        });
+    }
+
+    private void deleteTimes(List<Long> courseIds) {
+        for (int i = 0; i < courseIds.size(); i += BATCH_SIZE) {
+            namedJdbc.update("delete from course_times where course_id in (:ids)",
+                    Map.of("ids", courseIds.subList(i, Math.min(i + BATCH_SIZE, courseIds.size()))));
+        }
+    }
+
+    // 카테고리는 이름으로 매칭, 없으면 최상위 카테고리로 생성(건수가 적어 개별 insert)
+    private Map<String, Long> resolveCategories(List<Row> rows) {
+        Set<String> names = new LinkedHashSet<>();
+        for (Row r : rows) {
+            if (r.category() != null) names.add(r.category());
+        }
+        Map<String, Long> ids = new HashMap<>();
+        if (names.isEmpty()) return ids;
+
+        jdbc.query("select id, name from course_categories order by id",
+                rs -> {
+                    ids.putIfAbsent(rs.getString("name"), rs.getLong("id"));
+                });
+        for (String name : names) {
+            if (ids.containsKey(name)) continue;
+            GeneratedKeyHolder kh = new GeneratedKeyHolder();
+            jdbc.update(con -> {
+                PreparedStatement ps = con.prepareStatement(
+                        "insert into course_categories (name) values (?)", Statement.RETURN_GENERATED_KEYS);
+                ps.setString(1, name);
+                return ps;
+            }, kh);
+            ids.put(name, Objects.requireNonNull(kh.getKey()).longValue());
+        }
+        return ids;
+    }
+
+    private Map<String, Existing> loadExisting(String semester) {
+        Map<String, Existing> out = new HashMap<>();
+        jdbc.query("select id, course_code, section, content_hash from courses where semester_code = ?",
+                rs -> {
+                    out.put(keyOf(rs.getString("course_code"), rs.getString("section")),
+                            new Existing(rs.getLong("id"), rs.getString("content_hash")));
+                }, semester);
+        return out;
+    }
+
+    private void markCatalogDirtyAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            catalogService.markDirty();
+            courseLookup.invalidateAll();
+            cacheEvictor.evict(ReferenceCacheEvictor.Target.COURSES);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                catalogService.markDirty();
+                courseLookup.invalidateAll();
+                // JDBC 로 쓴 행은 Hibernate 2차 캐시에 반영되지 않는다
+                cacheEvictor.evict(ReferenceCacheEvictor.Target.COURSES);
+            }
+        });
+    }
+
+    // ===== 파싱 =====
+
+    private static String keyOf(String courseCode, String section) {
+        return courseCode + '\u0000' + (section == null ? "" : section);
+    }
+
+    private Map<String, Integer> headerIndex(List<String> header) {
+        Map<String, Integer> col = new HashMap<>();
+        for (int i = 0; i < header.size(); i++) {
+            String h = header.get(i).trim().toLowerCase(Locale.ROOT).replace('-', '_').replace(' ', '_');
+            col.putIfAbsent(h, i);
+        }
+        return col;
+    }
+
+    private Row parseRow(List<String> rec, Map<String, Integer> col, String semester) {
+        String sem = cell(rec, col, "semester_code", 16);
+        if (sem != null && !sem.equals(semester)) throw new IllegalArgumentException("학기 불일치: " + sem);
+
+        String code = cell(rec, col, "course_code", 50);
+        String name = cell(rec, col, "name", 200);
+        if (code == null) throw new IllegalArgumentException("course_code 가 비어 있습니다");
+        if (name == null) throw new IllegalArgumentException("name 이 비어 있습니다");
+
+        String section = cell(rec, col, "section", 10);
+        String professor = cell(rec, col, "professor", 100);
+        String creditRaw = cell(rec, col, "credit", 10);
+        Integer credit = null;
+        if (creditRaw != null) {
+            try {
+                credit = Integer.valueOf(creditRaw);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("credit 형식 오류: " + creditRaw);
+            }
+        }
+        String year = cell(rec, col, "year", 255);
+        String category = cell(rec, col, "category", 100);
+        String target = cell(rec, col, "target_department", 100);
+        List<TimeRow> times = parseTimes(cell(rec, col, "times", Integer.MAX_VALUE));
+
+        String hash = hashOf(name, professor, credit, year, category, target, times);
+        return new Row(code, section, name, professor, credit, year, category, target, times, hash);
+    }
+
+    private String cell(List<String> rec, Map<String, Integer> col, String name, int maxLen) {
+        Integer i = col.get(name);
+        if (i == null || i >= rec.size()) return null;
+        String v = rec.get(i).trim();
+        if (v.isEmpty()) return null;
+        if (v.length() > maxLen) throw new IllegalArgumentException(name + " 길이 초과(" + maxLen + ")");
+        return v;
+    }
+
+    // "MON 09:00-10:15 공학관101; WED 09:00-10:15" → 정렬된 목록
+    private List<TimeRow> parseTimes(String s) {
+        if (s == null) return List.of();
+        List<TimeRow> out = new ArrayList<>();
+        for (String part : s.split(";")) {
+            String p = part.trim();
+            if (p.isEmpty()) continue;
+            String[] tok = p.split("\\s+", 3);
+            if (tok.length < 2) throw new IllegalArgumentException("times 형식 오류: " + p);
+            DayOfWeek day = parseDay(tok[0]);
+            String[] se = tok[1].split("-", 2);
+            if (se.length != 2) throw new IllegalArgumentException("times 형식 오류: " + p);
+            LocalTime start = parseTime(se[0]);
+            LocalTime end = parseTime(se[1]);
+            if (!start.isBefore(end)) throw new IllegalArgumentException("시작 시각이 종료 시각보다 늦습니다: " + p);
+            String room = tok.length == 3 ? tok[2].trim() : null;
+            if (room != null && room.length() > 100) throw new IllegalArgumentException("room 길이 초과(100)");
+            out.add(new TimeRow(day, start, end, (room == null || room.isEmpty()) ? null : room));
+        }
+        out.sort(Comparator.comparing(TimeRow::day)
+                .thenComparing(TimeRow::start)
+                .thenComparing(TimeRow::end)
+                .thenComparing(TimeRow::room, Comparator.nullsFirst(Comparator.naturalOrder())));
+        return out;
+    }
+
+    private DayOfWeek parseDay(String s) {
+        String t = s.trim().toUpperCase(Locale.ROOT);
+        return switch (t) {
+            case "MON", "MONDAY", "월" -> DayOfWeek.MONDAY;
+            case "TUE", "TUESDAY", "화" -> DayOfWeek.TUESDAY;
+            case "WED", "WEDNESDAY", "수" -> DayOfWeek.WEDNESDAY;
+            case "THU", "THURSDAY", "목" -> DayOfWeek.THURSDAY;
+            case "FRI", "FRIDAY", "금" -> DayOfWeek.FRIDAY;
+            case "SAT", "SATURDAY", "토" -> DayOfWeek.SATURDAY;
+            case "SUN", "SUNDAY", "일" -> DayOfWeek.SUNDAY;
+            default -> throw new IllegalArgumentException("요일 형식 오류: " + s);
+        };
+    }
+
+    private LocalTime parseTime(String s) {
+        try {
+            return LocalTime.parse(s.trim(), HM);
+        } catch (DateTimeParseException e) {
+            throw new IllegalArgumentException("시각 형식 오류: " + s);
+        }
+    }
+
+    // 변경 감지용 SHA-256(학기/학수번호/분반은 키이므로 제외)
+    private String hashOf(String name, String professor, Integer credit, String year, String category,
+                          String target, List<TimeRow> times) {
+        StringBuilder sb = new StringBuilder();
+        for (Object v : new Object[]{name, professor, credit, year, category, target}) {
+            sb.append(v == null ? "" : v).append('\u001f');
+        }
+        for (TimeRow t : times) {
+            sb.append(t.day()).append(' ').append(t.start()).append('-').append(t.end())
+                    .append(' ').append(t.room() == null ? "" : t.room()).append('\u001e');
+        }
+        try {
+            byte[] d = MessageDigest.getInstance("SHA-256").digest(sb.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(d);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,77 @@
+// src/main/java/com/example/cample/course/service/CourseLookupCache.java
+package com.example.cample.course.service;
+
+import com.example.cample.course.domain.Course;
+import com.example.cample.course.domain.CourseTime;
+import com.example.cample.course.repo.CourseRepository;
+import com.example.cample.course.repo.CourseTimeRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * courseId → 강의 + 카테고리 + 강의시간 불변 스냅샷(CourseCatalog.Entry) 공용 캐시.
+ * 카탈로그와 달리 학기와 무관하게 id 로 찾고, 없는 id 는 캐시하지 않는다.
+ * 엔티티가 아니라 값을 담으므로 트랜잭션/스레드 사이에서 그대로 공유해도 된다.
+ * 강의 CSV 반영 후 invalidateAll() 로 비운다.
+ * 지표: cache.gets{cache=courseLookup,result=hit|miss}, cache.size, cache.evictions (actuator /metrics)
+ */
+@Component
+public class CourseLookupCache {
+
+    private final CourseRepository courseRepo;
+    private final CourseTimeRepository timeRepo;
+    private final Cache<Long, CourseCatalog.Entry> cache;
+
+    public CourseLookupCache(CourseRepository courseRepo,
+                             CourseTimeRepository timeRepo,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.course.lookup-cache.max-size:5000}") long maxSize,
+                             @Value("${app.course.lookup-cache.ttl:PT30M}") Duration ttl) {
+        this.courseRepo = courseRepo;
+        this.timeRepo = timeRepo;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "courseLookup");
+    }
+
+    public Optional<CourseCatalog.Entry> get(Long courseId) {
+        if (courseId == null) return Optional.empty();
+        return Optional.ofNullable(getAll(List.of(courseId)).get(courseId));
+    }
+
+    // 없는 id 는 결과에서 빠진다. 미스만 모아 course + category 1회, 강의시간 1회로 읽는다
+    public Map<Long, CourseCatalog.Entry> getAll(Collection<Long> courseIds) {
+        if (courseIds.isEmpty()) return Map.of();
+        return cache.getAll(courseIds, this::load);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private Map<Long, CourseCatalog.Entry> load(Set<? extends Long> ids) {
+        List<Long> list = new ArrayList<>(ids);
+        List<Course> courses = courseRepo.findAllByIdWithCategory(list);
+        if (courses.isEmpty()) return Map.of();
+        Map<Long, List<CourseCatalog.Slot>> slots = new HashMap<>();
+        for (CourseTime t : timeRepo.findByCourseIdIn(list)) {
+            slots.computeIfAbsent(t.getCourse().getId(), k -> new ArrayList<>())
+                    .add(new CourseCatalog.Slot(t.getDayOfWeek(), t.getStartTime(), t.getEndTime(), t.getRoom()));
+        }
+        Map<Long, CourseCatalog.Entry> out = new HashMap<>(courses.size() * 2);
+        for (Course c : courses) {
+            out.put(c.getId(), CourseCatalog.entryOf(c, slots.getOrDefault(c.getId(), List.of())));
+        }
+        return out;
+    }
+}
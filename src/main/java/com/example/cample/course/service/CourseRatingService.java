@@ -0,0 +1,147 @@
+// src/main/java/com/example/cample/course/service/CourseRatingService.java
+package com.example.cample.course.service;
+
+import com.example.cample.course.domain.CourseRatingSummary;
+import com.example.cample.course.repo.CourseRatingSummaryRepository;
+import com.example.cample.course.repo.CourseReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * course_rating_summary 관리.
+ * 리뷰 쓰기 경로는 같은 트랜잭션에서 applyChange 로 증분 반영하고,
+ * 검색/상세는 statsOf 로 한 번에 읽는다. 주기적으로 course_reviews 에서 재계산해 어긋난 행을 바로잡는다.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class CourseRatingService {
+
+    private static final double SUM_EPSILON = 1e-6;
+
+    private final CourseRatingSummaryRepository summaryRepo;
+    private final CourseReviewRepository reviewRepo;
+
+    // 요약 값이 바뀔 때마다 커밋 후 증가(검색 결과 캐시 무효화용)
+    private final AtomicLong version = new AtomicLong();
+
+    public record Stat(double avg, long count) {
+        public static final Stat EMPTY = new Stat(0.0, 0L);
+    }
+
+    public record ReconcileReport(int checked, int drifted, List<Long> driftedCourseIds) {}
+
+    // 리뷰 하나의 가시 상태 변화(before → after)를 요약 테이블에 반영
+    @Transactional
+    public void applyChange(Long courseId,
+                            boolean visibleBefore, Double ratingBefore,
+                            boolean visibleAfter, Double ratingAfter) {
+        long dCount = (visibleAfter ? 1 : 0) - (visibleBefore ? 1 : 0);
+        double dSum = (visibleAfter ? nz(ratingAfter) : 0.0) - (visibleBefore ? nz(ratingBefore) : 0.0);
+        if (dCount == 0 && dSum == 0.0) return;
+        summaryRepo.applyDelta(courseId, dCount, dSum);
+        bumpVersionAfterCommit();
+    }
+
+    public long version() {
+        return version.get();
+    }
+
+    @Transactional(readOnly = true)
+    public Stat statOf(Long courseId) {
+        return summaryRepo.findById(courseId).map(this::toStat).orElse(Stat.EMPTY);
+    }
+
+    // 검색 결과 전체를 한 번의 IN 조회로
+    @Transactional(readOnly = true)
+    public Map<Long, Stat> statsOf(Collection<Long> courseIds) {
+        if (courseIds == null || courseIds.isEmpty()) return Map.of();
+        Map<Long, Stat> out = new HashMap<>(courseIds.size() * 2);
+        for (CourseRatingSummary s : summaryRepo.findAllById(courseIds)) {
+            out.put(s.getCourseId(), toStat(s));
+        }
+        return out;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void reconcileOnStartup() {
+        reconcile();
+    }
+
+    @Scheduled(cron = "${app.course.rating.reconcile-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    @Transactional
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    @Transactional
+    public ReconcileReport reconcile() {
+        Map<Long, CourseReviewRepository.CountSum> actual = new HashMap<>();
+        for (CourseReviewRepository.CountSum cs : reviewRepo.countAndSumByCourse()) {
+            actual.put(cs.getCourseId(), cs);
+        }
+        Map<Long, CourseRatingSummary> stored = new HashMap<>();
+        for (CourseRatingSummary s : summaryRepo.findAll()) {
+            stored.put(s.getCourseId(), s);
+        }
+
+        Set<Long> ids = new TreeSet<>(actual.keySet());
+        ids.addAll(stored.keySet());
+
+        List<Long> drifted = new ArrayList<>();
+        for (Long id : ids) {
+            var a = actual.get(id);
+            long cnt = (a != null && a.getCnt() != null) ? a.getCnt() : 0L;
+            double sum = (a != null && a.getSum() != null) ? a.getSum() : 0.0;
+            var s = stored.get(id);
+            if (s == null && cnt == 0) continue;
+            if (s == null || s.getReviewCount() != cnt || Math.abs(s.getRatingSum() - sum) > SUM_EPSILON) {
+                // 위 비교는 발견용. 값은 비교 시점이 아니라 지금의 course_reviews 로 다시 집계
+                summaryRepo.recompute(id);
+                drifted.add(id);
+            }
+        }
+
+        if (!drifted.isEmpty()) {
+            bumpVersionAfterCommit();
+            log.warn("평점 요약 불일치 {}건 보정: courseIds={}", drifted.size(),
+                    drifted.size() > 20 ? drifted.subList(0, 20) + "..." : drifted);
+        } else {
+            log.info("평점 요약 정합성 점검 완료: {}건 일치", ids.size());
+        }
+        return new ReconcileReport(ids.size(), drifted.size(), drifted);
+    }
+
+    // 커밋 전에 올리면 다른 요청이 이전 값으로 새 버전 캐시를 채울 수 있으므로 커밋 이후에
+    private void bumpVersionAfterCommit() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            version.incrementAndGet();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                version.incrementAndGet();
+            }
+        });
+    }
+
+    private Stat toStat(CourseRatingSummary s) {
+        return new Stat(s.getRatingAvg(), s.getReviewCount());
+    }
+
+    private double nz(Double d) {
+        return d != null ? d : 0.0;
+    }
+}
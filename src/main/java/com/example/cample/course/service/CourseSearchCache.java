@@ -0,0 +1,76 @@
+// src/main/java/com/example/cample/course/service/CourseSearchCache.java
+package com.example.cample.course.service;
+
+import com.example.cample.course.dto.CourseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+
+/**
+ * 정규화된 검색 조건 → 정렬까지 끝난 CourseDto 목록 캐시.
+ * 키에 카탈로그 버전과 평점 버전을 함께 넣어, 강의/강의시간 변경(카탈로그 재빌드)이나
+ * 리뷰 쓰기가 있으면 이전 항목은 더 이상 조회되지 않고 크기/TTL 로 밀려난다.
+ * 항목 하나가 학기 전체 목록일 수도 있어, 크기는 항목 수가 아니라 담긴 강의 수 합(weigher)으로 제한한다.
+ * 지표: cache.gets{cache=courseSearch,result=hit|miss}, cache.size, cache.evictions (actuator /metrics)
+ */
+@Component
+public class CourseSearchCache {
+
+    private final CourseCatalogService catalogService;
+    private final CourseRatingService ratingService;
+    private final Cache<Key, List<CourseDto>> cache;
+
+    private record Key(Object query, long catalogVersion, long ratingVersion) {}
+
+    public CourseSearchCache(CourseCatalogService catalogService,
+                             CourseRatingService ratingService,
+                             MeterRegistry meterRegistry,
+                             @Value("${app.course.search-cache.max-courses:200000}") long maxCourses,
+                             @Value("${app.course.search-cache.ttl:PT10M}") Duration ttl) {
+        this.catalogService = catalogService;
+        this.ratingService = ratingService;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maxCourses)
+                .weigher((Key k, List<CourseDto> v) -> 1 + v.size())
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "courseSearch");
+    }
+
+    /**
+     * @param query  equals/hashCode 가 정의된 정규화 조건(record)
+     * @param loader 조회 시점의 카탈로그 스냅샷으로 결과를 만든다(버전과 결과가 같은 스냅샷 기준이 되도록)
+     */
+    public List<CourseDto> get(Object query, Function<CourseCatalog, List<CourseDto>> loader) {
+        return get(query, loader, null);
+    }
+
+    /**
+     * @param filter null 이 아니면 캐시된 목록에서 통과한 항목만 복사해 넘긴다(사용자별 조건처럼 키에 넣기 곤란한 조건용).
+     *               로더와 같은 카탈로그 스냅샷을 받는다
+     */
+    public List<CourseDto> get(Object query, Function<CourseCatalog, List<CourseDto>> loader,
+                               BiPredicate<CourseCatalog, CourseDto> filter) {
+        // 평점 버전은 계산 전에 읽는다: 계산 중 리뷰가 바뀌면 다음 조회는 새 버전 키로 미스
+        long ratingVersion = ratingService.version();
+        CourseCatalog catalog = catalogService.current();
+        List<CourseDto> cached = cache.get(new Key(query, catalog.version(), ratingVersion),
+                k -> List.copyOf(loader.apply(catalog)));
+        // 캐시된 DTO 는 공유되므로 꺼낼 때 복사해 넘긴다
+        List<CourseDto> out = new ArrayList<>(cached.size());
+        for (CourseDto c : cached) {
+            if (filter == null || filter.test(catalog, c)) out.add(c.copy());
+        }
+        return out;
+    }
+}
@@ -6,30 +6,34 @@ import com.example.cample.common.exception.ApiException;
 import com.example.cample.course.domain.*;
 import com.example.cample.course.dto.*;
 import com.example.cample.course.repo.*;
+import com.example.cample.timetable.service.TimetableSummaryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.time.DayOfWeek;
 import java.time.LocalTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.function.BiPredicate;
+import java.util.function.Consumer;
 
 @Service
 @RequiredArgsConstructor
 public class CourseService {
 
     private final CourseRepository courseRepo;
-    private final CourseTimeRepository timeRepo;
     private final CourseReviewRepository reviewRepo;
+    private final CourseCatalogService catalogService;
+    private final CourseRatingService ratingService;
+    private final CourseSearchCache searchCache;
+    private final CourseLookupCache courseLookup;
+    private final TimetableSummaryService timetableSummary;
 
-    // 3-argument functional interface for window calls
-    @FunctionalInterface
-    private interface WindowCaller {
-        void call(DayOfWeek d, LocalTime s, LocalTime e);
-    }
+    private static final int MAX_PAGE_SIZE = 200;
+    private static final int STREAM_CHUNK = 100;
 
     // ===== V2: 다중 year/credit + '기타만' + '4+' 지원 =====
     @Transactional(readOnly = true)
@@ -37,7 +41,7 @@ public class CourseService {
                                     List<String> years, boolean yearsEtcOnly,
                                     List<String> credits,
                                     String sort, String days, String startTime, String endTime, String ranges, String windows) {
-        return searchInternalV2(null, null, null, null,
+        return searchInternalV2(null, null, null, null, null, false,
                 categoryId, years, yearsEtcOnly, credits,
                 sort, days, startTime, endTime, ranges, windows);
     }
@@ -47,7 +51,7 @@ public class CourseService {
                                           List<String> years, boolean yearsEtcOnly,
                                           List<String> credits,
                                           String sort, String days, String startTime, String endTime, String ranges, String windows) {
-        return searchInternalV2(q, null, null, null,
+        return searchInternalV2(q, null, null, null, null, false,
                 categoryId, years, yearsEtcOnly, credits,
                 sort, days, startTime, endTime, ranges, windows);
     }
@@ -57,7 +61,7 @@ public class CourseService {
                                                List<String> years, boolean yearsEtcOnly,
                                                List<String> credits,
                                                String sort, String days, String startTime, String endTime, String ranges, String windows) {
-        return searchInternalV2(null, professor, null, null,
+        return searchInternalV2(null, professor, null, null, null, false,
                 categoryId, years, yearsEtcOnly, credits,
                 sort, days, startTime, endTime, ranges, windows);
     }
@@ -67,7 +71,7 @@ public class CourseService {
                                                 List<String> years, boolean yearsEtcOnly,
                                                 List<String> credits,
                                                 String sort, String days, String startTime, String endTime, String ranges, String windows) {
-        return searchInternalV2(null, null, code, null,
+        return searchInternalV2(null, null, code, null, null, false,
                 categoryId, years, yearsEtcOnly, credits,
                 sort, days, startTime, endTime, ranges, windows);
     }
@@ -77,11 +81,31 @@ public class CourseService {
                                           List<String> years, boolean yearsEtcOnly,
                                           List<String> credits,
                                           String sort, String days, String startTime, String endTime, String ranges, String windows) {
-        return searchInternalV2(null, null, null, room,
+        return searchInternalV2(null, null, null, room, null, false,
                 categoryId, years, yearsEtcOnly, credits,
                 sort, days, startTime, endTime, ranges, windows);
     }
 
+    // 초성 검색("ㅈㄹㄱㅈ" → 자료구조). prefix=true 면 앞부분 일치만
+    @Transactional(readOnly = true)
+    public List<CourseDto> searchByChosungV2(String chosung, boolean prefix, Long categoryId,
+                                             List<String> years, boolean yearsEtcOnly,
+                                             List<String> credits,
+                                             String sort, String days, String startTime, String endTime, String ranges, String windows) {
+        return searchInternalV2(null, null, null, null, chosung, prefix,
+                categoryId, years, yearsEtcOnly, credits,
+                sort, days, startTime, endTime, ranges, windows);
+    }
+
+    // 자동완성: 카탈로그 스냅샷의 트라이만 읽는다(DB 조회 없음)
+    public List<CourseSuggestDto> suggest(String q, int limit) {
+        if (q == null || q.isBlank()) return List.of();
+        int k = Math.max(1, Math.min(limit, CourseCatalog.SUGGEST_MAX));
+        return catalogService.current().suggest(q, k).stream()
+                .map(s -> CourseSuggestDto.builder().text(s.text()).type(s.type()).build())
+                .toList();
+    }
+
     // ===== 기존 API(백워드 호환) =====
     @Transactional(readOnly = true)
     public List<CourseDto> search(Long categoryId, Integer credit, String year, String sort,
@@ -118,19 +142,130 @@ public class CourseService {
                 categoryId, credit, year, sort, days, startTime, endTime, ranges, windows);
     }
 
+    // ===== 커서 페이지 / NDJSON 스트리밍 =====
+    // 순서는 (정렬 키, id) 전순서. default 정렬은 id 순
+    @Transactional(readOnly = true)
+    public CoursePageDto searchPageV2(String name, String prof, String code, String room,
+                                      String chosung, boolean chosungPrefix,
+                                      Long categoryId,
+                                      List<String> years, boolean yearsEtcOnly,
+                                      List<String> credits,
+                                      String sort, String days, String startTime, String endTime, String ranges, String windows,
+                                      String cursor, int size) {
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        PageOrder order = PageOrder.of(sort);
+        List<CourseCatalog.Entry> acc = resolveEntries(catalogService.current(), toQueryV2(name, prof, code, room,
+                chosung, chosungPrefix, categoryId, years, yearsEtcOnly, credits, days, startTime, endTime, ranges, windows));
+
+        Map<Long, CourseRatingService.Stat> stats = order.byRating ? statsOf(acc) : null;
+        List<Row> rows = toSortedRows(acc, order, stats);
+
+        int from = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            int idx = Collections.binarySearch(rows, decodeCursor(cursor, order), order.comparator);
+            from = (idx >= 0) ? idx + 1 : -idx - 1;
+        }
+        int to = Math.min(from + pageSize, rows.size());
+        List<CourseCatalog.Entry> page = rows.subList(from, to).stream().map(Row::entry).toList();
+
+        boolean hasNext = to < rows.size();
+        return CoursePageDto.builder()
+                .items(stats != null ? toDtos(page, stats) : toDtos(page))
+                .nextCursor(hasNext ? encodeCursor(rows.get(to - 1), order) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    // 정렬된 결과를 chunk 단위로 DTO 변환해 넘긴다(전체 DTO 리스트를 만들지 않음).
+    // 응답 쓰기 동안 커넥션을 잡지 않도록 트랜잭션 없이 동작(평점 조회는 chunk 마다 짧게)
+    public void streamV2(String name, String prof, String code, String room,
+                         String chosung, boolean chosungPrefix,
+                         Long categoryId,
+                         List<String> years, boolean yearsEtcOnly,
+                         List<String> credits,
+                         String sort, String days, String startTime, String endTime, String ranges, String windows,
+                         Consumer<List<CourseDto>> sink) {
+        PageOrder order = PageOrder.of(sort);
+        List<CourseCatalog.Entry> acc = resolveEntries(catalogService.current(), toQueryV2(name, prof, code, room,
+                chosung, chosungPrefix, categoryId, years, yearsEtcOnly, credits, days, startTime, endTime, ranges, windows));
+
+        Map<Long, CourseRatingService.Stat> stats = order.byRating ? statsOf(acc) : null;
+        List<Row> rows = toSortedRows(acc, order, stats);
+        for (int from = 0; from < rows.size(); from += STREAM_CHUNK) {
+            List<CourseCatalog.Entry> chunk = rows.subList(from, Math.min(from + STREAM_CHUNK, rows.size()))
+                    .stream().map(Row::entry).toList();
+            sink.accept(stats != null ? toDtos(chunk, stats) : toDtos(chunk));
+        }
+    }
+
+    /**
+     * 내 시간표의 빈 시간에 모든 강의시간이 들어가는 강의만(다른 조건과 AND).
+     * 빈 시간은 시간표 요약의 점유 마스크 여집합. 사용자마다 달라 캐시 키에 넣지 않고,
+     * 마스크 없는 조건의 캐시 결과를 꺼낸 뒤 강의별 마스크로 거른다.
+     */
+    @Transactional(readOnly = true)
+    public List<CourseDto> searchFitsMyTimetableV2(Long userId,
+                                                   String name, String prof, String code, String room,
+                                                   String chosung, boolean chosungPrefix,
+                                                   Long categoryId,
+                                                   List<String> years, boolean yearsEtcOnly,
+                                                   List<String> credits,
+                                                   String sort, String days, String startTime, String endTime,
+                                                   String ranges, String windows) {
+        SearchQuery q = toQueryV2(name, prof, code, room, chosung, chosungPrefix,
+                categoryId, years, yearsEtcOnly, credits, days, startTime, endTime, ranges, windows);
+        WeeklySlotMask free = timetableSummary.get(userId).occupied().complement();
+        // CourseCatalog.search 의 fitsWithin 과 같은 기준(강의시간 없는 강의 통과, irregular 제외)
+        return cachedSearch(q, sort, (catalog, dto) -> catalog.get(dto.getId())
+                .map(e -> e.mask().fitsWithin(free))
+                .orElse(false));
+    }
+
     // ===== 내부 공통 V2 =====
     private List<CourseDto> searchInternalV2(String name, String prof, String code, String room,
+                                             String chosung, boolean chosungPrefix,
                                              Long categoryId,
                                              List<String> years, boolean yearsEtcOnly,
                                              List<String> credits,
                                              String sort, String days, String startTime, String endTime, String ranges, String windows) {
+        SearchQuery q = toQueryV2(name, prof, code, room, chosung, chosungPrefix,
+                categoryId, years, yearsEtcOnly, credits, days, startTime, endTime, ranges, windows);
+        return cachedSearch(q, sort, null);
+    }
+
+    // 같은 정규화 조건 + 정렬이면 캐시된 결과(카탈로그/평점 버전이 같을 때만). filter 는 캐시 조회 뒤에 적용
+    private List<CourseDto> cachedSearch(SearchQuery q, String sortRaw,
+                                         BiPredicate<CourseCatalog, CourseDto> filter) {
+        String sort = canonicalSort(sortRaw);
+        return searchCache.get(new SortedQuery(q, sort), catalog -> {
+            var dtos = toDtos(resolveEntries(catalog, q));
+            applySort(dtos, sort);
+            return dtos;
+        }, filter);
+    }
+
+    /**
+     * 정규화된 검색 조건(캐시 키). 키워드는 trim + 소문자(검색이 대소문자 무시),
+     * 학년/학점은 정렬된 목록. 윈도우는 중복만 제거하고 순서는 유지한다(default 정렬의 결과 순서를 결정).
+     */
+    private record SearchQuery(String name, String prof, String code, String room,
+                               String chosung, boolean chosungPrefix,
+                               Long categoryId, List<String> years, boolean yearsEtcOnly,
+                               List<Integer> creditEq, boolean creditGte4,
+                               List<CourseCatalog.Window> windows) {
+    }
+
+    private record SortedQuery(SearchQuery query, String sort) {}
+
+    private SearchQuery toQueryV2(String name, String prof, String code, String room,
+                                  String chosung, boolean chosungPrefix,
+                                  Long categoryId,
+                                  List<String> years, boolean yearsEtcOnly,
+                                  List<String> credits,
+                                  String days, String startTime, String endTime, String ranges, String windows) {
 
         // 1) 시간 파싱
-        Set<DayOfWeek> daySet = parseDays(days);
-        List<Range> rangeList = parseRanges(ranges);
-        Range single = toRange(startTime, endTime);
-        if (single != null) rangeList.add(single);
-        Map<DayOfWeek, List<Range>> windowMap = parseWindows(windows);
+        List<CourseCatalog.Window> windowList = toWindows(days, startTime, endTime, ranges, windows);
 
         // 2) 연도 정규화
         LinkedHashSet<String> reqYears = normalizeYears(years);
@@ -138,84 +273,51 @@ public class CourseService {
         // 1,2,3,4 모두 선택 + 기타(yearsEtcOnly=true) → 전체 선택으로 간주
         boolean allSelected = yearsEtcOnly && all14;
 
-        List<String> yearsToQuery;
+        Set<String> yearFilter;
         if (allSelected) {
             yearsEtcOnly = false;                   // 후단 '기타만' 필터 비활성화
-            yearsToQuery = Collections.singletonList(null); // year 미필터
+            yearFilter = Set.of();                  // year 미필터
         } else if (reqYears.isEmpty()) {
             // 아무 학년도 안 고른 경우: '기타만' 단독 선택을 허용하기 위해 그대로 둠
-            yearsToQuery = Collections.singletonList(null); // year 미필터
+            yearFilter = Set.of();                  // year 미필터
         } else {
             LinkedHashSet<String> tmp = new LinkedHashSet<>(reqYears);
             if (all14) {
                 tmp.add("모든학년");
                 tmp.add("전학년");
             }
-            yearsToQuery = new ArrayList<>(tmp);
+            yearFilter = tmp;
         }
 
         // 3) 학점 정규화
         CreditFilter cf = normalizeCredits(credits); // 정수 eq + 4+ 플래그
-        List<Integer> creditEquals = (cf.eq.isEmpty() && !cf.gte4)
-                ? Collections.singletonList(null)   // credit 필터 미적용
-                : new ArrayList<>(cf.eq);
-
-        // 4) 조합 쿼리(합집합)
-        LinkedHashSet<Course> acc = new LinkedHashSet<>();
-        final String semester = SemesterConst.SEMESTER_CODE;
-
-        WindowCaller caller = (d, s, e) -> {
-            for (String y : yearsToQuery) {
-                // eq credits
-                for (Integer cEq : creditEquals) {
-                    acc.addAll(courseRepo.searchOneWindow(
-                            semester, categoryId, cEq, nullOrTrim(y),
-                            nullOrTrim(name), nullOrTrim(prof), nullOrTrim(code), nullOrTrim(room),
-                            d, s, e
-                    ));
-                }
-                // 4+ 확장은 후단 필터
-                if (cf.gte4) {
-                    List<Course> batch = courseRepo.searchOneWindow(
-                            semester, categoryId, null, nullOrTrim(y),
-                            nullOrTrim(name), nullOrTrim(prof), nullOrTrim(code), nullOrTrim(room),
-                            d, s, e
-                    );
-                    for (Course c : batch) {
-                        if (c.getCredit() != null && c.getCredit() >= 4) acc.add(c);
-                    }
-                }
-            }
-        };
-
-        if (!windowMap.isEmpty()) {
-            for (var e : windowMap.entrySet()) {
-                DayOfWeek d = e.getKey();
-                for (Range r : e.getValue()) caller.call(d, r.start(), r.end());
-            }
-        } else if (!daySet.isEmpty() && !rangeList.isEmpty()) {
-            for (DayOfWeek d : daySet) for (Range r : rangeList) caller.call(d, r.start(), r.end());
-        } else if (!daySet.isEmpty()) {
-            for (DayOfWeek d : daySet) caller.call(d, null, null);
-        } else if (!rangeList.isEmpty()) {
-            for (Range r : rangeList) caller.call(null, r.start(), r.end());
-        } else {
-            caller.call(null, null, null);
-        }
 
-        // 5) '기타만' 후단 필터
-        if (yearsEtcOnly) {
+        return new SearchQuery(
+                keyword(name), keyword(prof), keyword(code), keyword(room),
+                keyword(chosung), chosungPrefix,
+                categoryId, List.copyOf(new TreeSet<>(yearFilter)), yearsEtcOnly,
+                List.copyOf(new TreeSet<>(cf.eq)), cf.gte4,
+                List.copyOf(new LinkedHashSet<>(windowList))
+        );
+    }
+
+    // 카탈로그 인덱스 조회(윈도우 합집합 순서, 정렬 전) + '기타만' 후단 필터
+    private List<CourseCatalog.Entry> resolveEntries(CourseCatalog catalog, SearchQuery q) {
+        List<CourseCatalog.Entry> acc = new ArrayList<>(catalog.search(
+                q.categoryId(), q.years(), q.creditEq(), q.creditGte4(),
+                q.name(), q.prof(), q.code(), q.room(),
+                q.chosung(), q.chosungPrefix(),
+                q.windows()
+        ));
+
+        if (q.yearsEtcOnly()) {
             Set<String> base = Set.of("1", "2", "3", "4");
             acc.removeIf(c -> {
-                String y = c.getYear();
+                String y = c.year();
                 return y != null && base.contains(y.trim());
             });
         }
-
-        // 6) 매핑 + 정렬
-        var dtos = toDtos(new ArrayList<>(acc));
-        applySort(dtos, sort);
-        return dtos;
+        return acc;
     }
 
     // ===== 기존 내부 공통(단일 year/credit) =====
@@ -223,96 +325,60 @@ public class CourseService {
                                            Long categoryId, Integer credit, String year, String sort,
                                            String days, String startTime, String endTime, String ranges, String windows) {
 
+        String y = nullOrTrim(year);
+        SearchQuery q = new SearchQuery(
+                keyword(name), keyword(prof), keyword(code), keyword(room),
+                null, false,
+                categoryId, (y == null) ? List.of() : List.of(y), false,
+                (credit == null) ? List.of() : List.of(credit), false,
+                List.copyOf(new LinkedHashSet<>(toWindows(days, startTime, endTime, ranges, windows)))
+        );
+        return cachedSearch(q, sort, null);
+    }
+
+    // days/ranges/windows 조합 → "한 요일 · 한 구간" 목록 (빈 목록 = 시간 조건 없음)
+    private List<CourseCatalog.Window> toWindows(String days, String startTime, String endTime,
+                                                 String ranges, String windows) {
         Set<DayOfWeek> daySet = parseDays(days);
         List<Range> rangeList = parseRanges(ranges);
         Range single = toRange(startTime, endTime);
         if (single != null) rangeList.add(single);
         Map<DayOfWeek, List<Range>> windowMap = parseWindows(windows);
 
-        LinkedHashSet<Course> acc = new LinkedHashSet<>();
-
+        List<CourseCatalog.Window> out = new ArrayList<>();
         if (!windowMap.isEmpty()) {
             for (var e : windowMap.entrySet()) {
-                DayOfWeek d = e.getKey();
-                for (Range r : e.getValue()) {
-                    acc.addAll(courseRepo.searchOneWindow(
-                            SemesterConst.SEMESTER_CODE,
-                            categoryId, credit, nullOrTrim(year),
-                            nullOrTrim(name), nullOrTrim(prof), nullOrTrim(code), nullOrTrim(room),
-                            d, r.start(), r.end()
-                    ));
-                }
+                for (Range r : e.getValue()) out.add(new CourseCatalog.Window(e.getKey(), r.start(), r.end()));
             }
         } else if (!daySet.isEmpty() && !rangeList.isEmpty()) {
-            for (DayOfWeek d : daySet) {
-                for (Range r : rangeList) {
-                    acc.addAll(courseRepo.searchOneWindow(
-                            SemesterConst.SEMESTER_CODE,
-                            categoryId, credit, nullOrTrim(year),
-                            nullOrTrim(name), nullOrTrim(prof), nullOrTrim(code), nullOrTrim(room),
-                            d, r.start(), r.end()
-                    ));
-                }
-            }
+            for (DayOfWeek d : daySet) for (Range r : rangeList) out.add(new CourseCatalog.Window(d, r.start(), r.end()));
         } else if (!daySet.isEmpty()) {
-            for (DayOfWeek d : daySet) {
-                acc.addAll(courseRepo.searchOneWindow(
-                        SemesterConst.SEMESTER_CODE,
-                        categoryId, credit, nullOrTrim(year),
-                        nullOrTrim(name), nullOrTrim(prof), nullOrTrim(code), nullOrTrim(room),
-                        d, null, null
-                ));
-            }
+            for (DayOfWeek d : daySet) out.add(new CourseCatalog.Window(d, null, null));
         } else if (!rangeList.isEmpty()) {
-            for (Range r : rangeList) {
-                acc.addAll(courseRepo.searchOneWindow(
-                        SemesterConst.SEMESTER_CODE,
-                        categoryId, credit, nullOrTrim(year),
-                        nullOrTrim(name), nullOrTrim(prof), nullOrTrim(code), nullOrTrim(room),
-                        null, r.start(), r.end()
-                ));
-            }
-        } else {
-            acc.addAll(courseRepo.searchOneWindow(
-                    SemesterConst.SEMESTER_CODE,
-                    categoryId, credit, nullOrTrim(year),
-                    nullOrTrim(name), nullOrTrim(prof), nullOrTrim(code), nullOrTrim(room),
-                    null, null, null
-            ));
+            for (Range r : rangeList) out.add(new CourseCatalog.Window(null, r.start(), r.end()));
         }
-
-        var dtos = toDtos(new ArrayList<>(acc));
-        applySort(dtos, sort);
-        return dtos;
+        return out;
     }
 
     // ===== 단건/리뷰 =====
     @Transactional(readOnly = true)
     public CourseDto getOne(Long courseId, Long meId) {
-        Course c = courseRepo.findById(courseId)
-                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "강의가 존재하지 않습니다"));
-        if (!SemesterConst.SEMESTER_CODE.equals(c.getSemesterCode())) {
-            throw new ApiException(HttpStatus.NOT_FOUND, "학기 불일치");
-        }
-        var times = timeRepo.findByCourseId(courseId);
-        var s = statOf(courseId);
+        CourseCatalog.Entry c = getCourse(courseId);
+        var s = ratingService.statOf(courseId);
         var reviews = reviewRepo.findByCourseIdAndDeletedFalseOrderByCreatedAtDesc(courseId)
                 .stream()
                 .map(r -> ReviewResponse.from(r, meId))
                 .toList();
-        return CourseDto.fromDetailed(c, times, s.avg(), s.count(), reviews);
+        CourseDto dto = c.toDto(s.avg(), s.count());
+        dto.setReviews(reviews);
+        return dto;
     }
 
     // 정렬 전용: 과목 정보 + 정렬된 리뷰 목록
     @Transactional(readOnly = true)
     public CourseDto getOneWithSortedReviews(Long courseId, String sortKey, Long meId) {
-        Course c = courseRepo.findById(courseId)
-                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "강의가 존재하지 않습니다"));
-        if (!SemesterConst.SEMESTER_CODE.equals(c.getSemesterCode())) {
-            throw new ApiException(HttpStatus.NOT_FOUND, "학기 불일치");
-        }
-        var times = timeRepo.findByCourseId(courseId);
-        var s = statOf(courseId);
+        CourseCatalog.Entry c = getCourse(courseId);
+        var s = ratingService.statOf(courseId);
 
         Sort sort;
         switch (sortKey) {
@@ -335,39 +401,42 @@ public class CourseService {
                 .map(r -> ReviewResponse.from(r, meId))
                 .toList();
 
-        return CourseDto.fromDetailed(c, times, s.avg(), s.count(), reviews);
+        CourseDto dto = c.toDto(s.avg(), s.count());
+        dto.setReviews(reviews);
+        return dto;
     }
 
     @Transactional
     public ReviewResponse upsertMyReview(Long courseId, Long userId, ReviewRequest req) {
-        Course c = courseRepo.findById(courseId)
-                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "강의가 존재하지 않습니다"));
-        if (!SemesterConst.SEMESTER_CODE.equals(c.getSemesterCode())) {
-            throw new ApiException(HttpStatus.NOT_FOUND, "학기 불일치");
-        }
+        getCourse(courseId);
         var existing = reviewRepo.findByCourseIdAndUserId(courseId, userId);
-        CourseReview r = existing.orElseGet(() -> CourseReview.builder().course(c).userId(userId).build());
+        CourseReview r = existing.orElseGet(() -> CourseReview.builder()
+                .course(courseRepo.getReferenceById(courseId))
+                .userId(userId)
+                .build());
+        boolean visibleBefore = existing.isPresent() && !Boolean.TRUE.equals(r.getDeleted());
+        Double ratingBefore = r.getRating();
         r.setRating(req.getRating());
         r.setContent(req.getContent());
         r.setDeleted(false);
         CourseReview saved = reviewRepo.save(r);
+        ratingService.applyChange(courseId, visibleBefore, ratingBefore, true, saved.getRating());
         return ReviewResponse.from(saved, userId);
     }
 
     // 수정 전용(없으면 404)
     @Transactional
     public ReviewResponse updateMyReview(Long courseId, Long userId, ReviewRequest req) {
-        Course c = courseRepo.findById(courseId)
-                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "강의가 존재하지 않습니다"));
-        if (!SemesterConst.SEMESTER_CODE.equals(c.getSemesterCode())) {
-            throw new ApiException(HttpStatus.NOT_FOUND, "학기 불일치");
-        }
+        getCourse(courseId);
         CourseReview r = reviewRepo.findByCourseIdAndUserId(courseId, userId)
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "내 리뷰가 없습니다"));
+        boolean visibleBefore = !Boolean.TRUE.equals(r.getDeleted());
+        Double ratingBefore = r.getRating();
         r.setRating(req.getRating());
         r.setContent(req.getContent());
         r.setDeleted(false);
         CourseReview saved = reviewRepo.save(r);
+        ratingService.applyChange(courseId, visibleBefore, ratingBefore, true, saved.getRating());
         return ReviewResponse.from(saved, userId);
     }
 
@@ -375,38 +444,118 @@ public class CourseService {
     public void deleteMyReview(Long courseId, Long userId) {
         CourseReview r = reviewRepo.findByCourseIdAndUserId(courseId, userId)
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "내 리뷰가 없습니다"));
+        boolean visibleBefore = !Boolean.TRUE.equals(r.getDeleted());
         r.setDeleted(true);
+        ratingService.applyChange(courseId, visibleBefore, r.getRating(), false, null);
+    }
+
+    // 공용 조회 캐시에서 현재 학기 강의 확인(상세/리뷰 공통)
+    private CourseCatalog.Entry getCourse(Long courseId) {
+        CourseCatalog.Entry c = courseLookup.get(courseId)
+                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "강의가 존재하지 않습니다"));
+        if (!SemesterConst.SEMESTER_CODE.equals(c.semesterCode())) {
+            throw new ApiException(HttpStatus.NOT_FOUND, "학기 불일치");
+        }
+        return c;
+    }
+
+    private List<CourseDto> toDtos(List<CourseCatalog.Entry> entries) {
+        if (entries.isEmpty()) return new ArrayList<>();
+        return toDtos(entries, statsOf(entries));
+    }
+
+    private List<CourseDto> toDtos(List<CourseCatalog.Entry> entries, Map<Long, CourseRatingService.Stat> stats) {
+        List<CourseDto> out = new ArrayList<>(entries.size());
+        for (CourseCatalog.Entry e : entries) {
+            var s = stats.getOrDefault(e.id(), CourseRatingService.Stat.EMPTY);
+            out.add(e.toDto(s.avg(), s.count()));
+        }
+        return out;
+    }
+
+    private Map<Long, CourseRatingService.Stat> statsOf(List<CourseCatalog.Entry> entries) {
+        return ratingService.statsOf(entries.stream().map(CourseCatalog.Entry::id).toList());
     }
 
-    private Stat statOf(Long courseId) {
-        CourseReviewRepository.CountAvg s = reviewRepo.countAndAvg(courseId);
-        long count = (s != null && s.getCnt() != null) ? s.getCnt() : 0L;
-        double avg = (s != null && s.getAvg() != null) ? s.getAvg() : 0.0;
-        return new Stat(avg, count);
+    // ===== 커서 정렬 =====
+    // applySort 와 같은 키에 id 를 마지막 비교로 붙인 전순서. key 는 정렬 모드별 원시값(courseCode/NameKey/평점)
+    private record Row(CourseCatalog.Entry entry, Comparable<?> key, long id) {}
+
+    private static final class PageOrder {
+        final String name;
+        final boolean byRating;
+        final Comparator<Row> comparator;
+
+        private PageOrder(String name, boolean byRating, Comparator<Row> keyOrder) {
+            this.name = name;
+            this.byRating = byRating;
+            this.comparator = keyOrder.thenComparingLong(Row::id);
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <T extends Comparable<? super T>> Comparator<Row> keyed(Comparator<T> c) {
+            return Comparator.comparing(r -> (T) r.key(), c);
+        }
+
+        static PageOrder of(String sortRaw) {
+            String sort = (sortRaw == null || sortRaw.isBlank()) ? "default" : sortRaw.trim();
+            return switch (sort) {
+                case "code" -> new PageOrder(sort, false, keyed(Comparator.<String>nullsLast(Comparator.naturalOrder())));
+                case "name" -> new PageOrder(sort, false, keyed(Comparator.<NameKey>naturalOrder()));
+                case "ratingAsc" -> new PageOrder(sort, true, keyed(Comparator.<Double>nullsFirst(Comparator.naturalOrder())));
+                case "ratingDesc" -> new PageOrder(sort, true,
+                        keyed(Comparator.<Double>nullsFirst(Comparator.naturalOrder()).reversed()));
+                default -> new PageOrder("default", false, (a, b) -> 0);
+            };
+        }
+    }
+
+    private List<Row> toSortedRows(List<CourseCatalog.Entry> entries, PageOrder order,
+                                   Map<Long, CourseRatingService.Stat> stats) {
+        List<Row> rows = new ArrayList<>(entries.size());
+        for (CourseCatalog.Entry e : entries) {
+            rows.add(new Row(e, sortKeyOf(order, e.courseCode(), e.name(),
+                    stats != null ? stats.getOrDefault(e.id(), CourseRatingService.Stat.EMPTY).avg() : null), e.id()));
+        }
+        rows.sort(order.comparator);
+        return rows;
     }
 
-    private record Stat(double avg, long count) {}
+    private Comparable<?> sortKeyOf(PageOrder order, String courseCode, String name, Double rating) {
+        return switch (order.name) {
+            case "code" -> courseCode;
+            case "name" -> nameKey(name);
+            case "ratingAsc", "ratingDesc" -> rating;
+            default -> null;
+        };
+    }
 
-    private List<CourseDto> toDtos(List<Course> courses) {
-        if (courses.isEmpty()) return new ArrayList<>();
-        var ids = courses.stream().map(Course::getId).toList();
-        var times = timeRepo.findByCourseIdIn(ids).stream()
-                .collect(Collectors.groupingBy(t -> t.getCourse().getId()));
-        Map<Long, Double> avgMap = new HashMap<>();
-        Map<Long, Long> cntMap = new HashMap<>();
-        for (Long id : ids) {
-            var s = statOf(id);
-            avgMap.put(id, s.avg());
-            cntMap.put(id, s.count());
+    // cursor = base64url("정렬\nid\n(+값|-)"). 값은 마지막 항목의 courseCode / 강의명 / 평점 원문, '-' 는 null
+    private String encodeCursor(Row last, PageOrder order) {
+        String raw = switch (order.name) {
+            case "code" -> last.entry().courseCode();
+            case "name" -> last.entry().name();
+            case "ratingAsc", "ratingDesc" -> last.key() != null ? last.key().toString() : null;
+            default -> null;
+        };
+        String body = order.name + "\n" + last.id() + "\n" + (raw == null ? "-" : "+" + raw);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Row decodeCursor(String cursor, PageOrder order) {
+        try {
+            String body = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            String[] parts = body.split("\n", 3);
+            if (parts.length != 3 || !parts[0].equals(order.name)) {
+                throw new ApiException(HttpStatus.BAD_REQUEST, "cursor 의 정렬과 sort 가 다릅니다");
+            }
+            long id = Long.parseLong(parts[1]);
+            String raw = parts[2].startsWith("+") ? parts[2].substring(1) : null;
+            Double rating = (raw != null && order.byRating) ? Double.valueOf(raw) : null;
+            return new Row(null, sortKeyOf(order, raw, raw, rating), id);
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(HttpStatus.BAD_REQUEST, "잘못된 cursor");
         }
-        return courses.stream().map(c ->
-                CourseDto.from(
-                        c,
-                        times.getOrDefault(c.getId(), List.of()),
-                        avgMap.getOrDefault(c.getId(), 0.0),
-                        cntMap.getOrDefault(c.getId(), 0L)
-                )
-        ).collect(Collectors.toCollection(ArrayList::new));
     }
 
     private void applySort(List<CourseDto> dtos, String sortRaw) {
@@ -440,17 +589,11 @@ public class CourseService {
         }
         if ((ch >= 'A' && ch <= 'Z') || (ch >= 'a' && ch <= 'z'))
             return new NameKey(1, s.toUpperCase(Locale.ROOT), -1);
-        int init = initialKoreanIndex(ch);
+        int init = Hangul.initialIndex(ch);
         if (init >= 0) return new NameKey(2, s, init);
         return new NameKey(3, s, -1);
     }
 
-    private int initialKoreanIndex(char ch) {
-        if (ch < 0xAC00 || ch > 0xD7A3) return -1;
-        int base = ch - 0xAC00;
-        return base / 588;
-    }
-
     private record NameKey(int group, String norm, int aux) implements Comparable<NameKey> {
         @Override
         public int compareTo(NameKey o) {
@@ -472,6 +615,21 @@ public class CourseService {
         return s.isEmpty() ? null : s;
     }
 
+    private String keyword(String s) {
+        String t = nullOrTrim(s);
+        return t == null ? null : t.toLowerCase(Locale.ROOT);
+    }
+
+    // applySort 가 아는 값만 남기고 나머지는 default(정렬 안 함)
+    private String canonicalSort(String s) {
+        String t = nullOrTrim(s);
+        if (t == null) return "default";
+        return switch (t) {
+            case "code", "name", "ratingAsc", "ratingDesc" -> t;
+            default -> "default";
+        };
+    }
+
     private Set<DayOfWeek> parseDays(String s) {
         if (s == null || s.isBlank()) return Collections.emptySet();
         Set<DayOfWeek> out = new LinkedHashSet<>();
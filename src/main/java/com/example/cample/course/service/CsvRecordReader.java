@@ -0,0 +1,111 @@
+// src/main/java/com/example/cample/course/service/CsvRecordReader.java
+package com.example.cample.course.service;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 스트리밍 CSV 레코드 리더(RFC 4180: 따옴표 필드, "" 이스케이프, 따옴표 안 줄바꿈, CRLF).
+ * 파일 전체를 메모리에 올리지 않고 레코드 단위로 읽는다. UTF-8 BOM 은 무시.
+ */
+final class CsvRecordReader implements Closeable {
+
+    private final Reader in;
+    private int line = 1;        // 다음에 읽을 줄 번호
+    private int recordLine;      // 마지막으로 읽은 레코드의 시작 줄(오류 메시지용)
+    private int pending = -2;    // 한 글자 되돌리기(-2 = 없음)
+    private boolean first = true;
+
+    CsvRecordReader(Reader in) {
+        this.in = in instanceof BufferedReader ? in : new BufferedReader(in);
+    }
+
+    int line() {
+        return recordLine;
+    }
+
+    // 다음 레코드(EOF 면 null). 빈 줄은 건너뛴다
+    List<String> next() throws IOException {
+        while (true) {
+            int c = read();
+            if (c == -1) return null;
+            if (c == '\r' || c == '\n') {
+                if (c == '\r') skipLf();
+                line++;
+                continue;
+            }
+            unread(c);
+            return readRecord();
+        }
+    }
+
+    private List<String> readRecord() throws IOException {
+        recordLine = line;
+        List<String> fields = new ArrayList<>();
+        StringBuilder sb = new StringBuilder();
+        boolean quoted = false;
+        int extraLines = 0;
+        while (true) {
+            int c = read();
+            if (quoted) {
+                if (c == -1) throw new IOException(line + "행: 닫히지 않은 따옴표");
+                if (c == '"') {
+                    int n = read();
+                    if (n == '"') {
+                        sb.append('"');
+                    } else {
+                        quoted = false;
+                        unread(n);
+                    }
+                } else {
+                    if (c == '\n') extraLines++;
+                    sb.append((char) c);
+                }
+                continue;
+            }
+            if (c == '"' && sb.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(sb.toString());
+                sb.setLength(0);
+            } else if (c == '\r' || c == '\n' || c == -1) {
+                if (c == '\r') skipLf();
+                fields.add(sb.toString());
+                line += 1 + extraLines;
+                return fields;
+            } else {
+                sb.append((char) c);
+            }
+        }
+    }
+
+    private int read() throws IOException {
+        int c;
+        if (pending != -2) {
+            c = pending;
+            pending = -2;
+        } else {
+            c = in.read();
+        }
+        if (first) {
+            first = false;
+            if (c == '\uFEFF') return read();
+        }
+        return c;
+    }
+
+    private void unread(int c) {
+        pending = c;
+    }
+
+    private void skipLf() throws IOException {
+        int n = read();
+        if (n != '\n') unread(n);
+    }
+
+    @Override
+    public void close() throws IOException {
+        in.close();
+    }
+}
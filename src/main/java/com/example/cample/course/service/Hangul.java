@@ -0,0 +1,50 @@
+// src/main/java/com/example/cample/course/service/Hangul.java
+package com.example.cample.course.service;
+
+import java.text.Normalizer;
+import java.util.Locale;
+
+// 한글 음절 → 초성 변환 유틸 (정렬/초성 검색 공용)
+final class Hangul {
+
+    private static final char SYLLABLE_FIRST = 0xAC00;
+    private static final char SYLLABLE_LAST = 0xD7A3;
+    private static final int SYLLABLES_PER_INITIAL = 588;   // 21 중성 × 28 종성
+
+    // 호환용 자모 초성 19자
+    private static final char[] CHOSUNG = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ',
+            'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    private Hangul() {}
+
+    // 완성형 음절의 초성 인덱스(0~18), 음절이 아니면 -1
+    static int initialIndex(char ch) {
+        if (ch < SYLLABLE_FIRST || ch > SYLLABLE_LAST) return -1;
+        return (ch - SYLLABLE_FIRST) / SYLLABLES_PER_INITIAL;
+    }
+
+    /**
+     * 초성 키: 음절은 초성 자모로, 첫가끝 초성(U+1100~1112)도 호환 자모로 바꾸고 공백은 버린다.
+     * 그 외 문자는 소문자로 그대로 둔다. "자료 구조" → "ㅈㄹㄱㅈ", "C언어" → "cㅇㅇ"
+     */
+    static String chosungKey(String s) {
+        if (s == null) return null;
+        String n = Normalizer.normalize(s, Normalizer.Form.NFC);
+        StringBuilder sb = new StringBuilder(n.length());
+        for (int i = 0; i < n.length(); i++) {
+            char ch = n.charAt(i);
+            if (Character.isWhitespace(ch)) continue;
+            int init = initialIndex(ch);
+            if (init >= 0) {
+                sb.append(CHOSUNG[init]);
+            } else if (ch >= 0x1100 && ch <= 0x1112) {
+                sb.append(CHOSUNG[ch - 0x1100]);
+            } else {
+                sb.append(Character.toLowerCase(ch));
+            }
+        }
+        return sb.toString().toLowerCase(Locale.ROOT);
+    }
+}
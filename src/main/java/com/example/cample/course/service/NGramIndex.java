@@ -0,0 +1,127 @@
+// src/main/java/com/example/cample/course/service/NGramIndex.java
+package com.example.cample.course.service;
+
+import java.text.Normalizer;
+import java.util.*;
+
+/**
+ * 부분 문자열 검색용 1/2/3-gram 역색인(코드포인트 단위, 한글 음절 1자 = 1gram).
+ * 값/질의 모두 NFC + 소문자로 정규화하므로 lower(x) like lower('%q%') 와 같은 결과를 낸다.
+ * 질의가 1~2자면 포스팅만으로 확정, 3자 이상이면 trigram 교집합 후보만 contains 로 확인한다.
+ */
+final class NGramIndex {
+
+    private static final int MAX_GRAM = 3;
+    private static final int[] EMPTY = new int[0];
+
+    private final String[] values;              // 위치별 정규화 값(null 허용)
+    private final Map<String, int[]> postings;  // gram → 오름차순 위치 목록
+
+    private NGramIndex(String[] values, Map<String, int[]> postings) {
+        this.values = values;
+        this.postings = postings;
+    }
+
+    static NGramIndex build(List<String> rawValues) {
+        String[] values = new String[rawValues.size()];
+        Map<String, IntList> acc = new HashMap<>();
+        for (int pos = 0; pos < values.length; pos++) {
+            String v = normalize(rawValues.get(pos));
+            values[pos] = v;
+            if (v == null) continue;
+            int[] cps = v.codePoints().toArray();
+            Set<String> seen = new HashSet<>();
+            for (int n = 1; n <= MAX_GRAM; n++) {
+                for (int i = 0; i + n <= cps.length; i++) {
+                    String g = new String(cps, i, n);
+                    if (seen.add(g)) acc.computeIfAbsent(g, k -> new IntList()).add(pos);
+                }
+            }
+        }
+        Map<String, int[]> postings = new HashMap<>(acc.size() * 2);
+        acc.forEach((g, list) -> postings.put(g, list.toArray()));
+        return new NGramIndex(values, postings);
+    }
+
+    static String normalize(String s) {
+        if (s == null) return null;
+        return Normalizer.normalize(s, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+    }
+
+    // query 를 부분 문자열로 포함하는 위치 집합
+    BitSet match(String query) {
+        BitSet out = new BitSet(values.length);
+        String q = normalize(query);
+        if (q == null || q.isEmpty()) {
+            for (int i = 0; i < values.length; i++) if (values[i] != null) out.set(i);
+            return out;
+        }
+        int[] cps = q.codePoints().toArray();
+        if (cps.length <= MAX_GRAM - 1) {
+            for (int p : postings.getOrDefault(q, EMPTY)) out.set(p);
+            return out;
+        }
+
+        // 모든 trigram 의 포스팅을 짧은 것부터 교집합
+        List<int[]> lists = new ArrayList<>();
+        Set<String> seen = new HashSet<>();
+        for (int i = 0; i + MAX_GRAM <= cps.length; i++) {
+            String g = new String(cps, i, MAX_GRAM);
+            if (!seen.add(g)) continue;
+            int[] p = postings.get(g);
+            if (p == null) return out;
+            lists.add(p);
+        }
+        lists.sort(Comparator.comparingInt(a -> a.length));
+
+        int[] cand = lists.get(0);
+        for (int k = 1; k < lists.size() && cand.length > 0; k++) {
+            cand = intersect(cand, lists.get(k));
+        }
+        boolean exact = cps.length == MAX_GRAM;
+        for (int p : cand) {
+            if (exact || values[p].contains(q)) out.set(p);
+        }
+        return out;
+    }
+
+    // query 로 시작하는 위치 집합(부분 문자열 후보 중 startsWith 확인)
+    BitSet matchPrefix(String query) {
+        BitSet out = match(query);
+        String q = normalize(query);
+        if (q == null || q.isEmpty()) return out;
+        for (int i = out.nextSetBit(0); i >= 0; i = out.nextSetBit(i + 1)) {
+            if (!values[i].startsWith(q)) out.clear(i);
+        }
+        return out;
+    }
+
+    private static int[] intersect(int[] a, int[] b) {
+        int[] out = new int[Math.min(a.length, b.length)];
+        int i = 0, j = 0, n = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                out[n++] = a[i];
+                i++;
+                j++;
+            }
+        }
+        return Arrays.copyOf(out, n);
+    }
+
+    private static final class IntList {
+        private int[] data = new int[4];
+        private int size;
+
+        void add(int v) {
+            if (size == data.length) data = Arrays.copyOf(data, size * 2);
+            data[size++] = v;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(data, size);
+        }
+    }
+}
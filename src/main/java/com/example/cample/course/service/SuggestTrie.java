@@ -0,0 +1,118 @@
+// src/main/java/com/example/cample/course/service/SuggestTrie.java
+package com.example.cample.course.service;
+
+import java.util.*;
+
+/**
+ * 자동완성용 압축 접두사 트라이(radix).
+ * 노드마다 하위 트리의 상위 K개 후보(인기도 순)를 미리 계산해 두어
+ * 질의는 접두사 길이만큼만 내려가면 된다.
+ */
+final class SuggestTrie {
+
+    record Suggestion(String text, String type, long score) {}
+
+    private static final Comparator<Suggestion> RANK = Comparator
+            .comparingLong(Suggestion::score).reversed()
+            .thenComparingInt(s -> s.text().length())
+            .thenComparing(Suggestion::text);
+
+    private static final class Node {
+        final String label;        // 부모 → 이 노드로 오는 간선 문자열
+        final char[] keys;         // 자식 간선 첫 글자(오름차순)
+        final Node[] children;
+        final int[] top;           // 상위 K개 suggestion 인덱스
+
+        Node(String label, char[] keys, Node[] children, int[] top) {
+            this.label = label;
+            this.keys = keys;
+            this.children = children;
+            this.top = top;
+        }
+
+        Node child(char c) {
+            int i = Arrays.binarySearch(keys, c);
+            return i >= 0 ? children[i] : null;
+        }
+    }
+
+    // 빌드용 가변 노드
+    private static final class BuildNode {
+        final TreeMap<Character, BuildNode> children = new TreeMap<>();
+        final List<Integer> terminals = new ArrayList<>(1);
+    }
+
+    private final Suggestion[] suggestions;
+    private final Node root;
+    private final int k;
+
+    private SuggestTrie(Suggestion[] suggestions, Node root, int k) {
+        this.suggestions = suggestions;
+        this.root = root;
+        this.k = k;
+    }
+
+    /**
+     * @param keyed 검색 키(정규화된 문자열) → suggestion. 같은 suggestion 을 여러 키로 넣을 수 있다(초성 키 등)
+     */
+    static SuggestTrie build(List<Suggestion> suggestions, List<Map.Entry<String, Integer>> keyed, int k) {
+        Suggestion[] arr = suggestions.toArray(new Suggestion[0]);
+        BuildNode broot = new BuildNode();
+        for (var e : keyed) {
+            String key = e.getKey();
+            if (key == null || key.isEmpty()) continue;
+            BuildNode n = broot;
+            for (int i = 0; i < key.length(); i++) {
+                n = n.children.computeIfAbsent(key.charAt(i), c -> new BuildNode());
+            }
+            n.terminals.add(e.getValue());
+        }
+        Comparator<Integer> byRank = (a, b) -> RANK.compare(arr[a], arr[b]);
+        return new SuggestTrie(arr, freeze("", broot, byRank, k), k);
+    }
+
+    private static Node freeze(String label, BuildNode n, Comparator<Integer> byRank, int k) {
+        // 자식이 하나뿐이고 종단이 아니면 간선을 이어 붙인다(압축)
+        StringBuilder sb = new StringBuilder(label);
+        while (!sb.isEmpty() && n.terminals.isEmpty() && n.children.size() == 1) {
+            var only = n.children.firstEntry();
+            sb.append(only.getKey());
+            n = only.getValue();
+        }
+
+        char[] keys = new char[n.children.size()];
+        Node[] children = new Node[n.children.size()];
+        LinkedHashSet<Integer> cand = new LinkedHashSet<>(n.terminals);
+        int i = 0;
+        for (var e : n.children.entrySet()) {
+            keys[i] = e.getKey();
+            children[i] = freeze(String.valueOf(e.getKey()), e.getValue(), byRank, k);
+            for (int idx : children[i].top) cand.add(idx);
+            i++;
+        }
+        List<Integer> sorted = new ArrayList<>(cand);
+        sorted.sort(byRank);
+        int[] top = sorted.stream().limit(k).mapToInt(Integer::intValue).toArray();
+        return new Node(sb.toString(), keys, children, top);
+    }
+
+    List<Suggestion> suggest(String normalizedPrefix, int limit) {
+        if (normalizedPrefix == null || normalizedPrefix.isEmpty()) return List.of();
+        Node n = root;
+        int pos = 0;
+        while (pos < normalizedPrefix.length()) {
+            Node c = n.child(normalizedPrefix.charAt(pos));
+            if (c == null) return List.of();
+            // 간선 라벨과 비교(질의가 간선 중간에서 끝나도 그 노드의 top 을 쓴다)
+            String label = c.label;
+            int m = Math.min(label.length(), normalizedPrefix.length() - pos);
+            if (!label.regionMatches(0, normalizedPrefix, pos, m)) return List.of();
+            pos += m;
+            n = c;
+        }
+        int size = Math.min(Math.min(limit, k), n.top.length);
+        List<Suggestion> out = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) out.add(suggestions[n.top[i]]);
+        return out;
+    }
+}
@@ -3,6 +3,8 @@ package com.example.cample.place.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -15,6 +17,8 @@ import java.util.List;
                 @Index(name = "idx_place_name", columnList = "name")
         }
 )
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "place.Place")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -52,6 +56,7 @@ public class Place {
 
     // 메뉴 목록
     @OneToMany(mappedBy = "place", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "place.Place.menus")
     @Builder.Default
     private List<PlaceMenu> menus = new ArrayList<>();
 }
@@ -3,6 +3,8 @@ package com.example.cample.place.domain;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(
@@ -11,6 +13,8 @@ import lombok.*;
                 @Index(name = "idx_place_menu_place", columnList = "place_id")
         }
 )
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "place.PlaceMenu")
 @Getter
 @Setter
 @NoArgsConstructor
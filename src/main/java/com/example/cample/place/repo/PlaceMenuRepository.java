@@ -2,13 +2,20 @@
 package com.example.cample.place.repo;
 
 import com.example.cample.place.domain.PlaceMenu;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 
 public interface PlaceMenuRepository extends JpaRepository<PlaceMenu, Long> {
 
-    // 단일 장소의 메뉴 전체
+    // 단일 장소의 메뉴 전체(장소 상세). 쿼리 캐시 사용
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.reference")
+    })
     List<PlaceMenu> findByPlaceId(Long placeId);
 
     // 여러 장소의 메뉴 한 번에 (상세/리스트 최적화용)
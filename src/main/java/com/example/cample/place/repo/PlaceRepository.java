@@ -3,14 +3,29 @@ package com.example.cample.place.repo;
 
 import com.example.cample.place.domain.Place;
 import com.example.cample.place.domain.PlaceType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.Collection;
 import java.util.List;
 
 public interface PlaceRepository extends JpaRepository<Place, Long> {
 
-    // 타입별(식당/카페/술집) 전체 조회
+    // 전체(지도 마커용, 홈/맵 화면마다 호출). 쿼리 캐시 사용
+    @Override
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.reference")
+    })
+    List<Place> findAll();
+
+    // 타입별(식당/카페/술집) 전체 조회. 목록/추천에서 반복 호출되므로 쿼리 캐시 사용
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "query.reference")
+    })
     List<Place> findByType(PlaceType type);
 
     // 여러 타입 한 번에 조회 (예: RESTAURANT + CAFE)
@@ -0,0 +1,167 @@
+// src/main/java/com/example/cample/place/service/PlaceLocationResolver.java
+package com.example.cample.place.service;
+
+import com.example.cample.place.domain.Place;
+import com.example.cample.place.domain.PlaceType;
+import com.example.cample.place.repo.PlaceRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일정 위치 문자열 → 지도 마커용 Place id.
+ * 일정 저장 시 한 번 풀어 CalendarEvent/LectureRecurrence.placeId 에 넣고, 조회 때는 id 로만 묶는다.
+ * 매칭 규칙: 강의실 번호를 뗀 키("[H01] 이학관 307" → "[H01] 이학관")를 장소 이름과 그대로 비교,
+ * 없으면 건물 코드를 뗀 이름("이학관")을 캠퍼스 건물 이름(코드 제거)과 비교.
+ * 장소 목록(좌표 있는 것)은 ttl 마다 다시 읽고, 그때 위치 문자열 캐시도 비운다.
+ * 지표: cache.gets{cache=placeLocation,result=hit|miss}
+ */
+@Component
+public class PlaceLocationResolver {
+
+    private static final long NONE = 0L;   // 캐시에 null 을 못 넣으므로 '매칭 없음' 표시
+
+    private record Index(Map<String, Long> byExactName, Map<String, Long> byPlainBuildingName, long builtAt) {}
+
+    private final PlaceRepository placeRepository;
+    private final Cache<String, Long> cache;
+    private final long ttlNanos;
+    private volatile Index index;
+
+    public PlaceLocationResolver(PlaceRepository placeRepository,
+                                 MeterRegistry meterRegistry,
+                                 @Value("${app.place.location-resolver.max-size:20000}") long maxSize,
+                                 @Value("${app.place.location-resolver.ttl:PT1H}") Duration ttl) {
+        this.placeRepository = placeRepository;
+        this.ttlNanos = ttl.toNanos();
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "placeLocation");
+    }
+
+    // 매칭되는 장소가 없으면 null
+    public Long resolve(String location) {
+        if (location == null || location.isBlank()) return null;
+        Index idx = currentIndex();
+        long id = cache.get(location, loc -> match(idx, loc));
+        return id == NONE ? null : id;
+    }
+
+    // 장소 데이터를 바꾼 뒤 호출(다음 resolve 에서 다시 읽음)
+    public void invalidateAll() {
+        index = null;
+        cache.invalidateAll();
+    }
+
+    private Index currentIndex() {
+        Index idx = index;
+        if (idx != null && System.nanoTime() - idx.builtAt() < ttlNanos) return idx;
+        synchronized (this) {
+            idx = index;
+            if (idx != null && System.nanoTime() - idx.builtAt() < ttlNanos) return idx;
+            idx = buildIndex(placeRepository.findAll());
+            cache.invalidateAll();
+            index = idx;
+            return idx;
+        }
+    }
+
+    private static Index buildIndex(List<Place> all) {
+        // 1) 이름 그대로 (학사반점, 세이커피, [H01] 이학관 등)
+        // 2) 캠퍼스 건물만 코드 제거 후 (공학관, 이학관 등)
+        Map<String, Long> byExactName = new HashMap<>();
+        Map<String, Long> byPlainBuildingName = new HashMap<>();
+        for (Place p : all) {
+            if (p.getLatitude() == null || p.getLongitude() == null) continue;
+            byExactName.putIfAbsent(p.getName(), p.getId());
+            if (p.getType() == PlaceType.CAMPUS_BUILDING) {
+                String plain = stripBuildingCode(p.getName());
+                if (!plain.isEmpty()) byPlainBuildingName.putIfAbsent(plain, p.getId());
+            }
+        }
+        return new Index(byExactName, byPlainBuildingName, System.nanoTime());
+    }
+
+    private static long match(Index idx, String location) {
+        String base = markerKey(location.trim());
+        Long id = idx.byExactName().get(base);
+        if (id == null) id = idx.byPlainBuildingName().get(stripBuildingCode(base));
+        return id == null ? NONE : id;
+    }
+
+    // "[H01] 이학관 307" -> "[H01] 이학관"
+    // "[H07] 연암도서관" / "[H7] 연암도서관" -> "[H07] 연암도서관"
+    // "세이커피" -> "세이커피"
+    static String markerKey(String location) {
+        if (location == null) return "";
+        String trimmed = location.trim();
+        if (trimmed.isEmpty()) return "";
+
+        trimmed = normalizeBuildingCode(trimmed);
+
+        String[] parts = trimmed.split("\\s+");
+        if (parts.length == 1) {
+            return trimmed;
+        }
+
+        // 마지막 토큰에 숫자가 있으면 강의실 번호로 보고 뗀다
+        String last = parts[parts.length - 1];
+        if (containsDigit(last)) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < parts.length - 1; i++) {
+                if (i > 0) sb.append(' ');
+                sb.append(parts[i]);
+            }
+            return sb.toString().trim();
+        }
+
+        return trimmed;
+    }
+
+    // 정규식 .*\d.* 와 같은 판정(ASCII 숫자)
+    private static boolean containsDigit(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c >= '0' && c <= '9') return true;
+        }
+        return false;
+    }
+
+    // "[H7] 연암도서관" -> "[H07] 연암도서관"
+    static String normalizeBuildingCode(String s) {
+        int endBracket = s.indexOf(']');
+        if (s.startsWith("[H") && endBracket > 2) {
+            String num = s.substring(2, endBracket);
+            if (num.length() == 1) {
+                String padded = "[H0" + num + "]";
+                return padded + s.substring(endBracket + 1);
+            }
+        }
+        return s;
+    }
+
+    // "[H01] 공학관" -> "공학관"
+    // "공학관"       -> "공학관"
+    static String stripBuildingCode(String name) {
+        if (name == null) return "";
+        String trimmed = name.trim();
+        if (trimmed.isEmpty()) return "";
+        if (trimmed.startsWith("[") && trimmed.contains("]")) {
+            int idx = trimmed.indexOf(']');
+            if (idx >= 0 && idx + 1 < trimmed.length()) {
+                return trimmed.substring(idx + 1).trim();
+            }
+        }
+        return trimmed;
+    }
+}
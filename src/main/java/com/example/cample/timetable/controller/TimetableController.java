@@ -4,6 +4,7 @@ package com.example.cample.timetable.controller;
 import com.example.cample.common.constant.SemesterConst;
 import com.example.cample.security.model.CustomUserPrincipal;
 import com.example.cample.timetable.dto.*;
+import com.example.cample.timetable.service.TimetableGeneratorService;
 import com.example.cample.timetable.service.TimetableService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -17,6 +18,7 @@ import java.util.Map;
 public class TimetableController {
 
     private final TimetableService service;
+    private final TimetableGeneratorService generatorService;
 
     @GetMapping
     public Map<String, Object> myTimetable(
@@ -52,6 +54,19 @@ public class TimetableController {
         return service.resolve(me.getId(), req);
     }
 
+    // 장바구니 일괄 추가: 겹치지 않는 과목만 한 트랜잭션으로 추가하고 나머지는 사유와 함께 반환
+    @PostMapping("/items/cart")
+    public CartAddResult cartAdd(@Valid @RequestBody CartAddRequest req,
+                                 @org.springframework.security.core.annotation.AuthenticationPrincipal CustomUserPrincipal me) {
+        return service.cartAdd(me.getId(), req.getCourseIds());
+    }
+
+    // 시간표 자동 생성: 학수번호 목록 → 과목별 분반 하나씩, 겹치지 않는 조합 상위 N개
+    @PostMapping("/generate")
+    public GenerateResult generate(@Valid @RequestBody GenerateRequest req) {
+        return generatorService.generate(req);
+    }
+
     @DeleteMapping("/items/{itemId}")
     public Map<String, Object> remove(@PathVariable Long itemId,
                                       @org.springframework.security.core.annotation.AuthenticationPrincipal CustomUserPrincipal me) {
@@ -0,0 +1,8 @@
+package com.example.cample.timetable.domain;
+
+// 시간표 자동 생성 순위 기준(앞에 둔 기준이 우선)
+public enum RankCriterion {
+    FEWEST_DAYS,   // 등교 일수 적은 순
+    NO_EARLY,      // 이른 수업(earlyBefore 이전 시작)이 있는 요일 수 적은 순
+    MIN_GAPS       // 같은 날 수업 사이 공강(분) 합 적은 순
+}
@@ -0,0 +1,54 @@
+package com.example.cample.timetable.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 학기 시간표 요약(과목 id, 총 학점, 주간 점유 마스크).
+ * 시간표 추가/삭제 트랜잭션 안에서 갱신되고, 캐시가 비었을 때 course_times 대신 이 행을 읽는다.
+ */
+@Entity
+@Table(name = "timetable_summaries",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uq_tts_user_sem", columnNames = {"user_id", "semester_code"})
+        }
+)
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class TimetableSummary {
+
+    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "semester_code", nullable = false, length = 16)
+    private String semesterCode;
+
+    // 오름차순 course id CSV
+    @Column(nullable = false, length = 2000)
+    private String courseIds;
+
+    @Column(nullable = false)
+    private int totalCredits;
+
+    // WeeklySlotMask 워드(long 32개, little-endian 256바이트)
+    @Column(nullable = false, length = 256)
+    private byte[] occupancy;
+
+    @Column(nullable = false)
+    private boolean maskExact;
+
+    @Column(nullable = false)
+    private boolean maskIrregular;
+
+    // 계산에 쓴 과목들의 학점/마스크 해시. 카탈로그 내용이 달라졌으면(또는 null 이면) 이 행은 쓰지 않는다
+    @Column(name = "catalog_hash")
+    private Long catalogHash;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+}
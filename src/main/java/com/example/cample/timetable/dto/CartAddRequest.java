@@ -0,0 +1,18 @@
+// src/main/java/com/example/cample/timetable/dto/CartAddRequest.java
+package com.example.cample.timetable.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter @Setter
+public class CartAddRequest {
+    // 우선순위 순서(앞의 과목이 먼저 자리를 차지)
+    @NotEmpty
+    @Size(max = 30)
+    private List<@NotNull Long> courseIds;
+}
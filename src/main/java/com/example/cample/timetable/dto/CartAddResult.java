@@ -0,0 +1,26 @@
+// src/main/java/com/example/cample/timetable/dto/CartAddResult.java
+package com.example.cample.timetable.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class CartAddResult {
+    private List<Added> added;          // 추가된 과목(요청 순서)
+    private List<Rejected> rejected;    // 추가되지 않은 과목과 사유
+    private int createdEventCount;      // 생성된 캘린더 회차 수(합계)
+
+    @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+    public static class Added {
+        private Long courseId;
+        private Long itemId;
+    }
+
+    @Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+    public static class Rejected {
+        private Long courseId;
+        private String reason;                  // NOT_FOUND | SEMESTER_MISMATCH | DUPLICATED | CONFLICT
+        private List<Long> conflictCourseIds;   // CONFLICT 일 때 겹치는 과목(기존 시간표 또는 앞선 요청 과목)
+    }
+}
@@ -0,0 +1,28 @@
+// src/main/java/com/example/cample/timetable/dto/GenerateRequest.java
+package com.example.cample.timetable.dto;
+
+import com.example.cample.timetable.domain.RankCriterion;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.time.LocalTime;
+import java.util.List;
+
+@Getter @Setter
+public class GenerateRequest {
+    // 듣고 싶은 과목의 학수번호(분반은 자동 선택)
+    @NotEmpty
+    @Size(max = 12)
+    private List<@NotBlank String> courseCodes;
+
+    // 순위 기준(앞쪽 우선). 비우면 FEWEST_DAYS → NO_EARLY → MIN_GAPS
+    private List<RankCriterion> criteria;
+
+    // 이 시각 이전에 시작하는 수업을 "이른 수업"으로 본다(기본 10:00)
+    private LocalTime earlyBefore;
+
+    private Integer limit;   // 결과 개수(기본 10)
+}
@@ -0,0 +1,14 @@
+// src/main/java/com/example/cample/timetable/dto/GenerateResult.java
+package com.example.cample.timetable.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class GenerateResult {
+    private List<GeneratedTimetableDto> timetables;   // 순위 순
+    private List<String> missingCourseCodes;          // 이번 학기에 분반이 없는 학수번호
+    private boolean complete;                         // false 면 시간 예산 안에서 찾은 최선(전체 탐색 아님)
+    private long explored;                            // 탐색한 노드 수
+}
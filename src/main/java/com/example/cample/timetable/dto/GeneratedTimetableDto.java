@@ -0,0 +1,15 @@
+// src/main/java/com/example/cample/timetable/dto/GeneratedTimetableDto.java
+package com.example.cample.timetable.dto;
+
+import com.example.cample.course.dto.CourseDto;
+import lombok.*;
+
+import java.util.List;
+
+@Getter @Setter @NoArgsConstructor @AllArgsConstructor @Builder
+public class GeneratedTimetableDto {
+    private List<CourseDto> courses;   // 과목별로 고른 분반
+    private int days;                  // 등교 일수
+    private int earlyDays;             // 이른 수업이 있는 요일 수
+    private int gapMinutes;            // 공강 합(분)
+}
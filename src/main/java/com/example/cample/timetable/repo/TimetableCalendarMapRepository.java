@@ -2,10 +2,20 @@ package com.example.cample.timetable.repo;
 
 import com.example.cample.timetable.domain.TimetableCalendarMap;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface TimetableCalendarMapRepository extends JpaRepository<TimetableCalendarMap, Long> {
     List<TimetableCalendarMap> findByTimetableItemId(Long timetableItemId);
-    void deleteByTimetableItemId(Long timetableItemId);
+
+    @Query("select m.calendarEventId from TimetableCalendarMap m where m.timetableItemId in :itemIds")
+    List<Long> findEventIdsByItemIds(@Param("itemIds") Collection<Long> itemIds);
+
+    @Modifying
+    @Query("delete from TimetableCalendarMap m where m.timetableItemId in :itemIds")
+    int deleteByTimetableItemIds(@Param("itemIds") Collection<Long> itemIds);
 }
@@ -2,11 +2,33 @@ package com.example.cample.timetable.repo;
 
 import com.example.cample.timetable.domain.TimetableItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface TimetableItemRepository extends JpaRepository<TimetableItem, Long> {
     List<TimetableItem> findByUserIdAndSemesterCode(Long userId, String semesterCode);
     Optional<TimetableItem> findByUserIdAndSemesterCodeAndCourseId(Long userId, String semesterCode, Long courseId);
+
+    @Modifying
+    @Query("delete from TimetableItem i where i.id in :ids and i.userId = :userId")
+    int deleteByIdsForUser(@Param("ids") Collection<Long> ids, @Param("userId") Long userId);
+
+    // 자동완성 순위용: 학기별 강의당 시간표 담기 수
+    interface Popularity {
+        Long getCourseId();
+        Long getCnt();
+    }
+
+    @Query("""
+        select t.courseId as courseId, count(t) as cnt
+        from TimetableItem t
+        where t.semesterCode = :semester
+        group by t.courseId
+    """)
+    List<Popularity> popularityBySemester(@Param("semester") String semester);
 }
@@ -0,0 +1,10 @@
+package com.example.cample.timetable.repo;
+
+import com.example.cample.timetable.domain.TimetableSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.Optional;
+
+public interface TimetableSummaryRepository extends JpaRepository<TimetableSummary, Long> {
+    Optional<TimetableSummary> findByUserIdAndSemesterCode(Long userId, String semesterCode);
+}
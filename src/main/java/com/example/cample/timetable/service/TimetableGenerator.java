@@ -0,0 +1,264 @@
+// src/main/java/com/example/cample/timetable/service/TimetableGenerator.java
+package com.example.cample.timetable.service;
+
+import com.example.cample.course.domain.WeeklySlotMask;
+import com.example.cample.course.service.CourseCatalog;
+import com.example.cample.timetable.domain.RankCriterion;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.*;
+
+/**
+ * 과목(학수번호)마다 분반 하나씩 골라 시간이 겹치지 않는 시간표를 만드는 분기 한정 탐색.
+ * 분반별 주간 슬롯 마스크를 미리 만들어 두고, 깊이마다 누적 마스크와 AND 로 충돌을 거른다.
+ * 순위 기준의 하한이 현재 상위 K개 중 가장 나쁜 값 이상이면 그 가지는 더 보지 않는다.
+ * 시간 예산을 넘기면 그때까지 찾은 상위 K개를 complete=false 로 돌려준다.
+ */
+final class TimetableGenerator {
+
+    record Result(List<CourseCatalog.Entry> picks, int days, int earlyDays, int gapMinutes) {}
+
+    record Outcome(List<Result> results, boolean complete, long explored) {}
+
+    private static final int SLOTS_PER_DAY = WeeklySlotMask.SLOTS_PER_DAY;
+    private static final int CHECK_EVERY = 256;   // 노드 몇 개마다 시계를 볼지
+
+    private static final class Option {
+        final CourseCatalog.Entry entry;
+        final long[] words;
+        final boolean exact;        // 모든 경계가 슬롯 단위 → 마스크 겹침 = 실제 겹침
+        final boolean irregular;    // 비트로 표현 못 하는 슬롯 포함 → 실제 시각으로만 비교
+        final int dayBits;          // 수업 있는 요일(bit0=월)
+        final int earlyBits;        // 이른 수업 있는 요일
+
+        Option(CourseCatalog.Entry entry, LocalTime earlyBefore) {
+            this.entry = entry;
+            this.words = entry.mask().toLongArray();
+            this.exact = entry.mask().isExact();
+            this.irregular = entry.mask().isIrregular();
+            int days = 0, early = 0;
+            for (CourseCatalog.Slot s : entry.slots()) {
+                if (s.dayOfWeek() == null) continue;
+                int bit = 1 << (s.dayOfWeek().getValue() - 1);
+                days |= bit;
+                if (earlyBefore != null && s.startTime() != null && s.startTime().isBefore(earlyBefore)) {
+                    early |= bit;
+                }
+            }
+            this.dayBits = days;
+            this.earlyBits = early;
+        }
+    }
+
+    private record Scored(int[] cost, long seq, Option[] picks, int days, int earlyDays, int gapMinutes) {}
+
+    private final Option[][] groups;
+    private final RankCriterion[] criteria;
+    private final int k;
+    private final long deadline;
+
+    private final Option[] chosen;
+    private final long[][] acc;             // acc[d] = 0..d-1 에서 고른 분반의 누적 마스크
+    private final boolean[] allExact;       // allExact[d] = 0..d-1 이 모두 exact
+    private final boolean[] anyIrregular;   // anyIrregular[d] = 0..d-1 중 irregular 존재
+    private final PriorityQueue<Scored> best;
+
+    private long explored;
+    private long seq;
+    private boolean timedOut;
+
+    private TimetableGenerator(Option[][] groups, RankCriterion[] criteria, int k, long deadline) {
+        this.groups = groups;
+        this.criteria = criteria;
+        this.k = k;
+        this.deadline = deadline;
+        int n = groups.length;
+        int words = n == 0 ? 0 : groups[0][0].words.length;
+        this.chosen = new Option[n];
+        this.acc = new long[n + 1][words];
+        this.allExact = new boolean[n + 1];
+        this.anyIrregular = new boolean[n + 1];
+        this.allExact[0] = true;
+        // 가장 나쁜 결과가 head (같은 비용이면 나중에 찾은 쪽이 먼저 밀려난다)
+        this.best = new PriorityQueue<>(k + 1, (a, b) -> {
+            int c = compareCost(b.cost, a.cost);
+            return c != 0 ? c : Long.compare(b.seq, a.seq);
+        });
+    }
+
+    /**
+     * @param sections    과목별 후보 분반(빈 목록이 하나라도 있으면 결과 없음)
+     * @param criteria    순위 기준(앞쪽 우선, 사전식 비교)
+     * @param earlyBefore 이 시각 이전에 시작하면 이른 수업
+     */
+    static Outcome search(List<List<CourseCatalog.Entry>> sections, List<RankCriterion> criteria,
+                          LocalTime earlyBefore, int k, Duration budget) {
+        if (sections.isEmpty() || k <= 0) return new Outcome(List.of(), true, 0);
+        Option[][] groups = new Option[sections.size()][];
+        for (int i = 0; i < groups.length; i++) {
+            List<CourseCatalog.Entry> list = sections.get(i);
+            if (list.isEmpty()) return new Outcome(List.of(), true, 0);
+            Option[] opts = new Option[list.size()];
+            for (int j = 0; j < opts.length; j++) opts[j] = new Option(list.get(j), earlyBefore);
+            // 요일 적은 분반부터: 좋은 해를 빨리 찾아 한정(bound)이 일찍 강해지도록
+            Arrays.sort(opts, Comparator.<Option>comparingInt(o -> Integer.bitCount(o.dayBits))
+                    .thenComparingInt(o -> Integer.bitCount(o.earlyBits))
+                    .thenComparing(o -> o.entry.id()));
+            groups[i] = opts;
+        }
+        // 분반 적은 과목부터 고정(fail-first)
+        Arrays.sort(groups, Comparator.comparingInt(g -> g.length));
+
+        long deadline = System.nanoTime() + budget.toNanos();
+        TimetableGenerator g = new TimetableGenerator(
+                groups, criteria.toArray(new RankCriterion[0]), k, deadline);
+        g.dfs(0, 0, 0);
+
+        List<Scored> sorted = new ArrayList<>(g.best);
+        sorted.sort((a, b) -> {
+            int c = compareCost(a.cost, b.cost);
+            return c != 0 ? c : Long.compare(a.seq, b.seq);
+        });
+        List<Result> results = new ArrayList<>(sorted.size());
+        for (Scored s : sorted) {
+            List<CourseCatalog.Entry> picks = new ArrayList<>(s.picks.length);
+            for (Option o : s.picks) picks.add(o.entry);
+            // 요청한 과목 순서가 아니라 학수번호 순으로 정리
+            picks.sort(Comparator.comparing(CourseCatalog.Entry::courseCode, Comparator.nullsLast(String::compareTo)));
+            results.add(new Result(picks, s.days, s.earlyDays, s.gapMinutes));
+        }
+        return new Outcome(results, !g.timedOut, g.explored);
+    }
+
+    private void dfs(int depth, int dayAcc, int earlyAcc) {
+        if ((++explored % CHECK_EVERY) == 0 && System.nanoTime() > deadline) {
+            timedOut = true;
+        }
+        if (timedOut) return;
+
+        if (depth == groups.length) {
+            offer(dayAcc, earlyAcc);
+            return;
+        }
+        if (best.size() >= k && compareCost(lowerBound(depth, dayAcc, earlyAcc), best.peek().cost) >= 0) {
+            return;
+        }
+
+        long[] cur = acc[depth];
+        long[] next = acc[depth + 1];
+        for (Option o : groups[depth]) {
+            if (conflicts(o, depth)) continue;
+            for (int i = 0; i < cur.length; i++) next[i] = cur[i] | o.words[i];
+            chosen[depth] = o;
+            allExact[depth + 1] = allExact[depth] && o.exact;
+            anyIrregular[depth + 1] = anyIrregular[depth] || o.irregular;
+            dfs(depth + 1, dayAcc | o.dayBits, earlyAcc | o.earlyBits);
+            if (timedOut) return;
+        }
+    }
+
+    private boolean conflicts(Option o, int depth) {
+        if (!o.irregular && !anyIrregular[depth]) {
+            if (!intersects(o.words, acc[depth])) return false;
+            if (o.exact && allExact[depth]) return true;
+        }
+        // 경계가 슬롯 단위가 아니거나 irregular 가 섞인 경우만 쌍별로 실제 시각 비교
+        for (int i = 0; i < depth; i++) {
+            if (pairConflict(o, chosen[i])) return true;
+        }
+        return false;
+    }
+
+    private static boolean pairConflict(Option a, Option b) {
+        if (!a.irregular && !b.irregular) {
+            if (!intersects(a.words, b.words)) return false;
+            if (a.exact && b.exact) return true;
+        }
+        // TimetableService.overlaps 와 같은 기준. 요일/시각이 비었거나 시작>=종료인 슬롯은 겹침으로 본다
+        for (CourseCatalog.Slot x : a.entry.slots()) {
+            for (CourseCatalog.Slot y : b.entry.slots()) {
+                if (!valid(x) || !valid(y)) return true;
+                if (x.dayOfWeek() == y.dayOfWeek()
+                        && x.startTime().isBefore(y.endTime()) && y.startTime().isBefore(x.endTime())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static boolean valid(CourseCatalog.Slot s) {
+        return s.dayOfWeek() != null && s.startTime() != null && s.endTime() != null
+                && s.startTime().isBefore(s.endTime());
+    }
+
+    private static boolean intersects(long[] a, long[] b) {
+        for (int i = 0; i < a.length; i++) {
+            if ((a[i] & b[i]) != 0L) return true;
+        }
+        return false;
+    }
+
+    // 남은 과목을 어떻게 골라도 이보다 좋아질 수 없는 비용(기준별 하한)
+    private int[] lowerBound(int depth, int dayAcc, int earlyAcc) {
+        int extraDays = 0, extraEarly = 0;
+        for (int d = depth; d < groups.length; d++) {
+            int minDays = Integer.MAX_VALUE, minEarly = Integer.MAX_VALUE;
+            for (Option o : groups[d]) {
+                minDays = Math.min(minDays, Integer.bitCount(o.dayBits & ~dayAcc));
+                minEarly = Math.min(minEarly, Integer.bitCount(o.earlyBits & ~earlyAcc));
+            }
+            extraDays = Math.max(extraDays, minDays);
+            extraEarly = Math.max(extraEarly, minEarly);
+        }
+        // 공강은 뒤에 고른 수업이 메울 수 있어 단조가 아니므로 하한 0
+        return cost(Integer.bitCount(dayAcc) + extraDays, Integer.bitCount(earlyAcc) + extraEarly, 0);
+    }
+
+    private void offer(int dayAcc, int earlyAcc) {
+        int days = Integer.bitCount(dayAcc);
+        int early = Integer.bitCount(earlyAcc);
+        int gaps = gapMinutes(acc[groups.length]);
+        int[] cost = cost(days, early, gaps);
+        if (best.size() >= k && compareCost(cost, best.peek().cost) >= 0) return;
+        best.add(new Scored(cost, seq++, chosen.clone(), days, early, gaps));
+        if (best.size() > k) best.poll();
+    }
+
+    private int[] cost(int days, int early, int gaps) {
+        int[] c = new int[criteria.length];
+        for (int i = 0; i < criteria.length; i++) {
+            c[i] = switch (criteria[i]) {
+                case FEWEST_DAYS -> days;
+                case NO_EARLY -> early;
+                case MIN_GAPS -> gaps;
+            };
+        }
+        return c;
+    }
+
+    private static int compareCost(int[] a, int[] b) {
+        return Arrays.compare(a, b);
+    }
+
+    // 요일마다 첫 수업~마지막 수업 사이의 빈 슬롯 합(분)
+    static int gapMinutes(long[] words) {
+        int total = 0;
+        for (DayOfWeek d : DayOfWeek.values()) {
+            int base = (d.getValue() - 1) * SLOTS_PER_DAY;
+            int first = -1, last = -1, used = 0;
+            for (int s = 0; s < SLOTS_PER_DAY; s++) {
+                int bit = base + s;
+                if ((words[bit >>> 6] & (1L << (bit & 63))) != 0L) {
+                    if (first < 0) first = s;
+                    last = s;
+                    used++;
+                }
+            }
+            if (first >= 0) total += (last - first + 1 - used) * WeeklySlotMask.MINUTES_PER_SLOT;
+        }
+        return total;
+    }
+}
@@ -0,0 +1,74 @@
+// src/main/java/com/example/cample/timetable/service/TimetableGeneratorService.java
+package com.example.cample.timetable.service;
+
+import com.example.cample.course.service.CourseCatalog;
+import com.example.cample.course.service.CourseCatalogService;
+import com.example.cample.timetable.domain.RankCriterion;
+import com.example.cample.timetable.dto.GenerateRequest;
+import com.example.cample.timetable.dto.GenerateResult;
+import com.example.cample.timetable.dto.GeneratedTimetableDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+@Service
+public class TimetableGeneratorService {
+
+    private static final List<RankCriterion> DEFAULT_CRITERIA =
+            List.of(RankCriterion.FEWEST_DAYS, RankCriterion.NO_EARLY, RankCriterion.MIN_GAPS);
+    private static final LocalTime DEFAULT_EARLY_BEFORE = LocalTime.of(10, 0);
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final CourseCatalogService catalogService;
+    private final Duration timeBudget;
+    private final int maxResults;
+
+    public TimetableGeneratorService(CourseCatalogService catalogService,
+                                     @Value("${app.timetable.generator.time-budget:PT0.5S}") Duration timeBudget,
+                                     @Value("${app.timetable.generator.max-results:50}") int maxResults) {
+        this.catalogService = catalogService;
+        this.timeBudget = timeBudget;
+        this.maxResults = maxResults;
+    }
+
+    // 카탈로그 스냅샷만 읽으므로 DB 조회 없음
+    public GenerateResult generate(GenerateRequest req) {
+        CourseCatalog catalog = catalogService.current();
+
+        List<String> missing = new ArrayList<>();
+        List<List<CourseCatalog.Entry>> sections = new ArrayList<>();
+        for (String code : new LinkedHashSet<>(req.getCourseCodes())) {
+            List<CourseCatalog.Entry> list = catalog.sectionsOf(code);
+            if (list.isEmpty()) missing.add(code);
+            else sections.add(list);
+        }
+
+        List<RankCriterion> criteria = (req.getCriteria() == null || req.getCriteria().isEmpty())
+                ? DEFAULT_CRITERIA
+                : List.copyOf(new LinkedHashSet<>(req.getCriteria()));
+        LocalTime earlyBefore = req.getEarlyBefore() != null ? req.getEarlyBefore() : DEFAULT_EARLY_BEFORE;
+        int limit = req.getLimit() == null ? DEFAULT_LIMIT : Math.max(1, Math.min(req.getLimit(), maxResults));
+
+        TimetableGenerator.Outcome out = TimetableGenerator.search(sections, criteria, earlyBefore, limit, timeBudget);
+
+        List<GeneratedTimetableDto> timetables = out.results().stream()
+                .map(r -> GeneratedTimetableDto.builder()
+                        .courses(r.picks().stream().map(e -> e.toDto(null, null)).toList())
+                        .days(r.days())
+                        .earlyDays(r.earlyDays())
+                        .gapMinutes(r.gapMinutes())
+                        .build())
+                .toList();
+        return GenerateResult.builder()
+                .timetables(timetables)
+                .missingCourseCodes(missing)
+                .complete(out.complete())
+                .explored(out.explored())
+                .build();
+    }
+}
@@ -4,11 +4,11 @@ package com.example.cample.timetable.service;
 import com.example.cample.calendar.service.CalendarService;
 import com.example.cample.common.constant.SemesterConst;
 import com.example.cample.common.exception.ApiException;
-import com.example.cample.course.domain.Course;
-import com.example.cample.course.domain.CourseTime;
+import com.example.cample.course.domain.WeeklySlotMask;
 import com.example.cample.course.dto.CourseDto;
-import com.example.cample.course.repo.CourseRepository;
-import com.example.cample.course.repo.CourseTimeRepository;
+import com.example.cample.course.service.CourseCatalog;
+import com.example.cample.course.service.CourseCatalogService;
+import com.example.cample.course.service.CourseLookupCache;
 import com.example.cample.timetable.domain.*;
 import com.example.cample.timetable.dto.*;
 import com.example.cample.timetable.repo.*;
@@ -16,9 +16,11 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.*;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
 @Service
@@ -27,86 +29,88 @@ public class TimetableService {
 
     private final TimetableItemRepository itemRepo;
     private final TimetableCalendarMapRepository mapRepo;
-    private final CourseRepository courseRepo;
-    private final CourseTimeRepository timeRepo;
+    private final CourseLookupCache courseLookup;
     private final CalendarService calendarService;
+    private final TimetableSummaryService summaryService;
+    private final CourseCatalogService catalogService;
+    private final UserMutationLock userLock;
+    private final TransactionTemplate txTemplate;
 
     // 기존: courseId 목록만 리턴
     @Transactional(readOnly = true)
     public List<Long> myCourseIds(Long userId) {
-        return itemRepo.findByUserIdAndSemesterCode(userId, SemesterConst.SEMESTER_CODE)
-                .stream().map(TimetableItem::getCourseId).toList();
+        return summaryService.get(userId).courseIds();
     }
 
     // 새로 추가: 내 시간표 과목 전체 정보(CourseDto) 리턴
     @Transactional(readOnly = true)
     public List<CourseDto> myCourses(Long userId) {
-        List<TimetableItem> items =
-                itemRepo.findByUserIdAndSemesterCode(userId, SemesterConst.SEMESTER_CODE);
-
-        if (items.isEmpty()) return List.of();
-
-        List<Long> courseIds = items.stream()
-                .map(TimetableItem::getCourseId)
-                .toList();
-
-        List<Course> courses = courseRepo.findAllById(courseIds);
-        if (courses.isEmpty()) return List.of();
-
-        Map<Long, List<CourseTime>> timesByCourseId = timeRepo.findByCourseIdIn(courseIds).stream()
-                .collect(Collectors.groupingBy(ct -> ct.getCourse().getId()));
+        List<Long> courseIds = summaryService.get(userId).courseIds();
+        if (courseIds.isEmpty()) return List.of();
+
+        // 카탈로그 스냅샷에서 바로 만든다(리뷰/평점은 timetable 화면에서 필요 없으므로 null)
+        CourseCatalog catalog = catalogService.current();
+        List<CourseDto> out = new ArrayList<>(courseIds.size());
+        List<Long> notInCatalog = new ArrayList<>();
+        for (Long id : courseIds) {
+            catalog.get(id).ifPresentOrElse(e -> out.add(e.toDto(null, null)), () -> notInCatalog.add(id));
+        }
+        if (notInCatalog.isEmpty()) return out;
 
-        // 리뷰/평점은 timetable 화면에서 필요 없으므로 null 로 둠
-        return courses.stream()
-                .map(c -> CourseDto.from(
-                        c,
-                        timesByCourseId.getOrDefault(c.getId(), List.of()),
-                        null,
-                        null
-                ))
-                .toList();
+        // 스냅샷 재빌드 전에 추가된 강의는 공용 조회 캐시에서
+        courseLookup.getAll(notInCatalog).values().forEach(e -> out.add(e.toDto(null, null)));
+        return out;
     }
 
     // 새로 추가: 내 시간표 총 학점
     @Transactional(readOnly = true)
     public int myTotalCredits(Long userId) {
-        List<TimetableItem> items =
-                itemRepo.findByUserIdAndSemesterCode(userId, SemesterConst.SEMESTER_CODE);
+        return summaryService.get(userId).totalCredits();
+    }
 
-        if (items.isEmpty()) {
-            return 0;
-        }
+    // ===== 변경 =====
+    // 같은 사용자의 변경은 UserMutationLock 으로 직렬화하고, 트랜잭션은 락 안에서 시작/커밋한다.
+    // (동시에 들어온 두 요청이 모두 중복/충돌 검사를 통과한 뒤 유니크 제약에서야 실패하는 낭비를 막는다)
 
-        List<Long> courseIds = items.stream()
-                .map(TimetableItem::getCourseId)
-                .toList();
+    // 1) 시도: 충돌 없으면 즉시 추가, 있으면 conflict=true 만 반환
+    public TryAddResponse tryAdd(Long userId, Long courseId) {
+        return mutate(userId, () -> doTryAdd(userId, courseId));
+    }
 
-        List<Course> courses = courseRepo.findAllById(courseIds);
-        if (courses.isEmpty()) {
-            return 0;
-        }
+    // 2) 해결: KEEP(추가 안 함) / REPLACE(기존 겹치는 항목 삭제 + 추가)
+    public ResolveResult resolve(Long userId, ResolveRequest req) {
+        return mutate(userId, () -> doResolve(userId, req));
+    }
 
-        return courses.stream()
-                .map(Course::getCredit)
-                .filter(Objects::nonNull)
-                .mapToInt(Integer::intValue)
-                .sum();
+    // 장바구니 일괄 추가(doCartAdd 참고)
+    public CartAddResult cartAdd(Long userId, List<Long> courseIds) {
+        return mutate(userId, () -> doCartAdd(userId, courseIds));
     }
 
-    // 1) 시도: 충돌 없으면 즉시 추가, 있으면 conflict=true 만 반환
-    @Transactional
-    public TryAddResponse tryAdd(Long userId, Long courseId) {
+    public void remove(Long userId, Long itemId) {
+        mutate(userId, () -> {
+            deleteItemAndCalendar(userId, itemId);
+            summaryService.refresh(userId);
+            return null;
+        });
+    }
+
+    private <T> T mutate(Long userId, Supplier<T> body) {
+        return userLock.run(userId, () -> txTemplate.execute(status -> body.get()));
+    }
+
+    private TryAddResponse doTryAdd(Long userId, Long courseId) {
         ensureNotDuplicated(userId, courseId);
-        Course newCourse = getCourse(courseId);
-        List<CourseTime> newSlots = timeRepo.findByCourseId(courseId);
+        CourseCatalog.Entry newCourse = getCourse(courseId);
 
-        List<ConflictHolder> conflicts = findConflicts(userId, newSlots);
+        List<ConflictHolder> conflicts = findConflicts(userId, newCourse);
         if (!conflicts.isEmpty()) {
             return TryAddResponse.builder().conflict(true).build();
         }
 
         // 충돌 없음 → 즉시 추가
-        AddOpResult r = addItemAndEvents(userId, newCourse, newSlots);
+        AddOpResult r = addItemAndEvents(userId, newCourse);
+        summaryService.refresh(userId);
         return TryAddResponse.builder()
                 .conflict(false)
                 .itemId(r.itemId())
@@ -114,18 +118,16 @@ public class TimetableService {
                 .build();
     }
 
-    // 2) 해결: KEEP(추가 안 함) / REPLACE(기존 겹치는 항목 삭제 + 추가)
-    @Transactional
-    public ResolveResult resolve(Long userId, ResolveRequest req) {
+    private ResolveResult doResolve(Long userId, ResolveRequest req) {
         Long courseId = req.getCourseId();
         ensureNotDuplicated(userId, courseId); // 이미 들어가 있으면 409
-        Course newCourse = getCourse(courseId);
-        List<CourseTime> newSlots = timeRepo.findByCourseId(courseId);
+        CourseCatalog.Entry newCourse = getCourse(courseId);
 
-        List<ConflictHolder> conflicts = findConflicts(userId, newSlots);
+        List<ConflictHolder> conflicts = findConflicts(userId, newCourse);
 
         if (conflicts.isEmpty()) {
-            AddOpResult r = addItemAndEvents(userId, newCourse, newSlots);
+            AddOpResult r = addItemAndEvents(userId, newCourse);
+            summaryService.refresh(userId);
             return ResolveResult.builder()
                     .applied(true)
                     .itemId(r.itemId())
@@ -146,12 +148,10 @@ public class TimetableService {
         // REPLACE: 충돌 항목 삭제 후 추가
         List<Long> removedItemIds = conflicts.stream()
                 .map(c -> c.item.getId()).distinct().toList();
-        int deletedEvents = 0;
-        for (Long id : removedItemIds) {
-            deletedEvents += deleteItemAndCalendar(userId, id);
-        }
+        int deletedEvents = deleteItemsAndCalendar(userId, removedItemIds);
 
-        AddOpResult r = addItemAndEvents(userId, newCourse, newSlots);
+        AddOpResult r = addItemAndEvents(userId, newCourse);
+        summaryService.refresh(userId);
         return ResolveResult.builder()
                 .applied(true)
                 .itemId(r.itemId())
@@ -161,9 +161,98 @@ public class TimetableService {
                 .build();
     }
 
-    @Transactional
-    public void remove(Long userId, Long itemId) {
-        deleteItemAndCalendar(userId, itemId);
+    /**
+     * 장바구니 일괄 추가: 요청 순서대로 기존 시간표 + 앞서 받아들인 과목과 겹치지 않는 과목만 추가한다.
+     * 조회는 항목/과목/강의시간 각 1회, 충돌 검사는 메모리에서 한 번에 끝낸다.
+     */
+    private CartAddResult doCartAdd(Long userId, List<Long> courseIds) {
+        List<Long> requested = new ArrayList<>(new LinkedHashSet<>(courseIds));
+
+        List<TimetableItem> existingItems =
+                itemRepo.findByUserIdAndSemesterCode(userId, SemesterConst.SEMESTER_CODE);
+        Set<Long> existingCourseIds = existingItems.stream()
+                .map(TimetableItem::getCourseId).collect(Collectors.toSet());
+
+        // 요청 + 기존 과목을 공용 조회 캐시에서 한 번에(미스만 course 1회 + 강의시간 1회)
+        Set<Long> allCourseIds = new HashSet<>(existingCourseIds);
+        allCourseIds.addAll(requested);
+        Map<Long, CourseCatalog.Entry> coursesById = courseLookup.getAll(allCourseIds);
+
+        // 자리를 차지한 과목(기존 + 받아들인 요청)
+        Map<Long, CourseCatalog.Entry> taken = new LinkedHashMap<>();
+        for (Long cid : existingCourseIds) {
+            CourseCatalog.Entry e = coursesById.get(cid);
+            if (e != null) taken.put(cid, e);
+        }
+
+        List<CourseCatalog.Entry> accepted = new ArrayList<>();
+        List<CartAddResult.Rejected> rejected = new ArrayList<>();
+        for (Long cid : requested) {
+            CourseCatalog.Entry c = coursesById.get(cid);
+            String reason = null;
+            List<Long> conflictWith = List.of();
+            if (c == null) {
+                reason = "NOT_FOUND";
+            } else if (!SemesterConst.SEMESTER_CODE.equals(c.semesterCode())) {
+                reason = "SEMESTER_MISMATCH";
+            } else if (existingCourseIds.contains(cid)) {
+                reason = "DUPLICATED";
+            } else {
+                WeeklySlotMask mask = c.mask();
+                conflictWith = new ArrayList<>();
+                for (var e : taken.entrySet()) {
+                    WeeklySlotMask other = e.getValue().mask();
+                    if (!other.intersects(mask)) continue;
+                    // 두 마스크가 exact 면 확정, 아니면 실제 시각으로 확인
+                    if ((mask.isExact() && other.isExact()) || anyOverlap(c.slots(), e.getValue().slots())) {
+                        conflictWith.add(e.getKey());
+                    }
+                }
+                if (conflictWith.isEmpty()) {
+                    taken.put(cid, c);
+                    accepted.add(c);
+                    continue;
+                }
+                reason = "CONFLICT";
+            }
+            rejected.add(CartAddResult.Rejected.builder()
+                    .courseId(cid)
+                    .reason(reason)
+                    .conflictCourseIds(conflictWith)
+                    .build());
+        }
+
+        if (accepted.isEmpty()) {
+            return CartAddResult.builder()
+                    .added(List.of())
+                    .rejected(rejected)
+                    .createdEventCount(0)
+                    .build();
+        }
+
+        List<TimetableItem> saved = itemRepo.saveAll(accepted.stream()
+                .map(c -> TimetableItem.builder()
+                        .userId(userId)
+                        .semesterCode(SemesterConst.SEMESTER_CODE)
+                        .courseId(c.id())
+                        .build())
+                .toList());
+
+        List<CalendarService.LectureSeries> series = new ArrayList<>(saved.size());
+        List<CartAddResult.Added> added = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            CourseCatalog.Entry c = accepted.get(i);
+            series.add(new CalendarService.LectureSeries(saved.get(i).getId(), titleOf(c), lectureSlots(c.slots())));
+            added.add(new CartAddResult.Added(c.id(), saved.get(i).getId()));
+        }
+        Map<Long, Integer> created = calendarService.createLectureSeries(userId, series);
+        summaryService.refresh(userId);
+
+        return CartAddResult.builder()
+                .added(added)
+                .rejected(rejected)
+                .createdEventCount(created.values().stream().mapToInt(Integer::intValue).sum())
+                .build();
     }
 
     // ===== 내부 유틸 =====
@@ -174,31 +263,39 @@ public class TimetableService {
         }
     }
 
-    private Course getCourse(Long courseId) {
-        Course c = courseRepo.findById(courseId)
+    private CourseCatalog.Entry getCourse(Long courseId) {
+        CourseCatalog.Entry c = courseLookup.get(courseId)
                 .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "강의가 존재하지 않습니다"));
-        if (!SemesterConst.SEMESTER_CODE.equals(c.getSemesterCode())) {
+        if (!SemesterConst.SEMESTER_CODE.equals(c.semesterCode())) {
             throw new ApiException(HttpStatus.NOT_FOUND, "학기 불일치");
         }
         return c;
     }
 
-    private List<ConflictHolder> findConflicts(Long userId, List<CourseTime> newSlots) {
+    private List<ConflictHolder> findConflicts(Long userId, CourseCatalog.Entry newCourse) {
+        // 요약 마스크와 겹치지 않으면 기존 항목/강의시간을 읽을 필요가 없다.
+        // "충돌 없음" 확정은 이 사용자의 변경 락 안에서 읽은 요약으로만(락 밖이면 항상 전체 비교)
+        WeeklySlotMask newMask = newCourse.mask();
+        if (userLock.isHeldByCurrentThread(userId)
+                && !summaryService.getForWrite(userId).occupied().intersects(newMask)) {
+            return List.of();
+        }
+
         List<TimetableItem> existingItems =
                 itemRepo.findByUserIdAndSemesterCode(userId, SemesterConst.SEMESTER_CODE);
+        Map<Long, CourseCatalog.Entry> existing = courseLookup.getAll(
+                existingItems.stream().map(TimetableItem::getCourseId).toList());
 
-        Map<Long, List<CourseTime>> existingTimesByCourse = existingItems.isEmpty()
-                ? Map.of()
-                : timeRepo.findByCourseIdIn(existingItems.stream().map(TimetableItem::getCourseId).toList())
-                .stream().collect(Collectors.groupingBy(ct -> ct.getCourse().getId()));
-
+        // 비트마스크로 먼저 거르고, 마스크가 겹치는 항목만 실제 시각으로 비교
         List<ConflictHolder> conflicts = new ArrayList<>();
         for (TimetableItem item : existingItems) {
-            List<CourseTime> times = existingTimesByCourse.getOrDefault(item.getCourseId(), List.of());
-            for (CourseTime ex : times) {
-                for (CourseTime nv : newSlots) {
-                    if (ex.getDayOfWeek() == nv.getDayOfWeek() &&
-                            overlaps(ex.getStartTime(), ex.getEndTime(), nv.getStartTime(), nv.getEndTime())) {
+            CourseCatalog.Entry ec = existing.get(item.getCourseId());
+            if (ec == null || !ec.mask().intersects(newMask)) continue;
+            for (CourseCatalog.Slot ex : ec.slots()) {
+                if (!comparable(ex)) continue;
+                for (CourseCatalog.Slot nv : newCourse.slots()) {
+                    if (comparable(nv) && ex.dayOfWeek() == nv.dayOfWeek() &&
+                            overlaps(ex.startTime(), ex.endTime(), nv.startTime(), nv.endTime())) {
                         conflicts.add(new ConflictHolder(item, ex, nv));
                     }
                 }
@@ -207,29 +304,43 @@ public class TimetableService {
         return conflicts;
     }
 
-    private AddOpResult addItemAndEvents(Long userId, Course newCourse, List<CourseTime> newSlots) {
+    private AddOpResult addItemAndEvents(Long userId, CourseCatalog.Entry newCourse) {
         TimetableItem saved = itemRepo.save(TimetableItem.builder()
                 .userId(userId)
                 .semesterCode(SemesterConst.SEMESTER_CODE)
-                .courseId(newCourse.getId())
+                .courseId(newCourse.id())
                 .build());
 
-        int createdEvents = 0;
-        for (CourseTime slot : newSlots) {
-            LocalDate first = firstOccurrence(slot.getDayOfWeek(), SemesterConst.SEMESTER_START);
-            for (LocalDate d = first; !d.isAfter(SemesterConst.SEMESTER_END); d = d.plusWeeks(1)) {
-                LocalDateTime start = LocalDateTime.of(d, slot.getStartTime());
-                LocalDateTime end   = LocalDateTime.of(d, slot.getEndTime());
-                Long evId = calendarService.createLectureEvent(
-                        titleOf(newCourse), locationOf(slot), start, end, userId);
-                mapRepo.save(TimetableCalendarMap.builder()
-                        .timetableItemId(saved.getId())
-                        .calendarEventId(evId)
-                        .build());
-                createdEvents++;
+        // 강의 일정은 슬롯당 주간 반복 템플릿 1행으로 저장(회차는 캘린더 조회 시 펼침)
+        int occurrences = calendarService.createLectureSeries(
+                userId, saved.getId(), titleOf(newCourse), lectureSlots(newCourse.slots()));
+        return new AddOpResult(saved.getId(), occurrences);
+    }
+
+    private List<CalendarService.LectureSlot> lectureSlots(List<CourseCatalog.Slot> slots) {
+        return slots.stream()
+                .map(t -> new CalendarService.LectureSlot(
+                        t.dayOfWeek(), t.startTime(), t.endTime(), locationOf(t)))
+                .toList();
+    }
+
+    // 실제 시각 비교(요일/시각이 비어 있는 슬롯은 건너뛴다 — findConflicts 와 같은 기준)
+    private boolean anyOverlap(List<CourseCatalog.Slot> a, List<CourseCatalog.Slot> b) {
+        for (CourseCatalog.Slot x : a) {
+            if (!comparable(x)) continue;
+            for (CourseCatalog.Slot y : b) {
+                if (comparable(y) && x.dayOfWeek() == y.dayOfWeek()
+                        && overlaps(x.startTime(), x.endTime(), y.startTime(), y.endTime())) {
+                    return true;
+                }
             }
         }
-        return new AddOpResult(saved.getId(), createdEvents);
+        return false;
+    }
+
+    // 요일/시각이 모두 있는 슬롯만 겹침 판단 대상(마스크의 irregular 는 후보 선별에만 쓴다)
+    private boolean comparable(CourseCatalog.Slot s) {
+        return s.dayOfWeek() != null && s.startTime() != null && s.endTime() != null;
     }
 
     private boolean overlaps(LocalTime aStart, LocalTime aEnd, LocalTime bStart, LocalTime bEnd) {
@@ -237,49 +348,53 @@ public class TimetableService {
     }
 
     private int deleteItemAndCalendar(Long userId, Long itemId) {
-        TimetableItem item = itemRepo.findById(itemId)
-                .orElseThrow(() -> new ApiException(HttpStatus.NOT_FOUND, "시간표 항목 없음"));
-        if (!item.getUserId().equals(userId)) {
+        return deleteItemsAndCalendar(userId, List.of(itemId));
+    }
+
+    // 항목 수/학기 주차 수와 무관하게 고정 횟수의 쿼리로 삭제(소유자 조건은 delete 조건에 포함)
+    private int deleteItemsAndCalendar(Long userId, List<Long> itemIds) {
+        if (itemIds.isEmpty()) return 0;
+        List<TimetableItem> items = itemRepo.findAllById(itemIds);
+        if (items.size() != itemIds.size()) {
+            throw new ApiException(HttpStatus.NOT_FOUND, "시간표 항목 없음");
+        }
+        if (items.stream().anyMatch(i -> !i.getUserId().equals(userId))) {
             throw new ApiException(HttpStatus.FORBIDDEN, "본인 항목만 삭제할 수 있습니다");
         }
-        var maps = mapRepo.findByTimetableItemId(itemId);
-        var evIds = maps.stream().map(TimetableCalendarMap::getCalendarEventId).toList();
+
+        // 반복 템플릿 이전에 추가된 항목은 주차별 일정 행 + 매핑이 남아 있다
+        List<Long> evIds = mapRepo.findEventIdsByItemIds(itemIds);
+        int deleted = 0;
         if (!evIds.isEmpty()) {
-            calendarService.deleteEventsByIdsForOwner(evIds, userId);
+            deleted += calendarService.deleteEventsByIdsForOwner(evIds, userId);
+            mapRepo.deleteByTimetableItemIds(itemIds);
         }
-        mapRepo.deleteByTimetableItemId(itemId);
-        itemRepo.delete(item);
-        return evIds.size();
-    }
-
-    private LocalDate firstOccurrence(DayOfWeek dow, LocalDate start) {
-        int diff = (dow.getValue() - start.getDayOfWeek().getValue() + 7) % 7;
-        return start.plusDays(diff);
+        deleted += calendarService.deleteLectureSeries(userId, itemIds);
+        itemRepo.deleteByIdsForUser(itemIds, userId);
+        return deleted;
     }
 
-    private String titleOf(Course c) {
-        String base = c.getName();
-        if (c.getProfessor() != null && !c.getProfessor().isBlank()) base += " (" + c.getProfessor() + ")";
-        if (c.getSection() != null && !c.getSection().isBlank())     base += " - " + c.getSection();
+    private String titleOf(CourseCatalog.Entry c) {
+        String base = c.name();
+        if (c.professor() != null && !c.professor().isBlank()) base += " (" + c.professor() + ")";
+        if (c.section() != null && !c.section().isBlank())     base += " - " + c.section();
         return base;
     }
 
-    private String locationOf(CourseTime t) {
-        String room = t.getRoom();
+    private String locationOf(CourseCatalog.Slot t) {
+        String room = t.room();
         return (room == null || room.isBlank()) ? null : room;
     }
 
-    private final Map<Long, String> courseNameCache = new HashMap<>();
     private String courseName(Long courseId) {
-        return courseNameCache.computeIfAbsent(courseId, id ->
-                courseRepo.findById(id).map(Course::getName).orElse("unknown"));
+        return courseLookup.get(courseId).map(CourseCatalog.Entry::name).orElse("unknown");
     }
 
     private class ConflictHolder {
         TimetableItem item;
-        CourseTime ex;
-        CourseTime nv;
-        ConflictHolder(TimetableItem item, CourseTime ex, CourseTime nv) {
+        CourseCatalog.Slot ex;
+        CourseCatalog.Slot nv;
+        ConflictHolder(TimetableItem item, CourseCatalog.Slot ex, CourseCatalog.Slot nv) {
             this.item = item; this.ex = ex; this.nv = nv;
         }
         String itemCourseName() { return courseName(item.getCourseId()); }
@@ -0,0 +1,202 @@
+// src/main/java/com/example/cample/timetable/service/TimetableSummaryService.java
+package com.example.cample.timetable.service;
+
+import com.example.cample.common.constant.SemesterConst;
+import com.example.cample.course.domain.WeeklySlotMask;
+import com.example.cample.course.service.CourseCatalog;
+import com.example.cample.course.service.CourseCatalogService;
+import com.example.cample.course.service.CourseLookupCache;
+import com.example.cample.timetable.domain.TimetableItem;
+import com.example.cample.timetable.domain.TimetableSummary;
+import com.example.cample.timetable.repo.TimetableItemRepository;
+import com.example.cample.timetable.repo.TimetableSummaryRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.time.Duration;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자별 시간표 요약(과목 id, 총 학점, 주간 점유 마스크).
+ * 읽기: 캐시 → timetable_summaries 행(현재 카탈로그 내용과 해시가 같을 때만) → 시간표 항목 + 카탈로그 스냅샷으로 계산.
+ * 쓰기: 시간표를 바꾸는 트랜잭션 안에서 refresh() 로 행을 갱신하고, 커밋 후 캐시에 반영한다.
+ * 쓰기 중에는 캐시에 표시 항목을 두고, 읽기는 시작 때 본 항목이 그대로일 때만 채운다(쓰기와 겹친 읽기가 이전 값을 덮어쓰지 않게).
+ * 어느 경로도 course_times 를 읽지 않는다(카탈로그에 없는 과목만 공용 조회 캐시 경유).
+ */
+@Service
+public class TimetableSummaryService {
+
+    public record Summary(List<Long> courseIds, int totalCredits, WeeklySlotMask occupied) {}
+
+    // 카탈로그 버전이 바뀌면(강의시간 변경 가능) 다시 계산. summary 가 null 이면 쓰기 진행 중 표시
+    private record Cached(Summary summary, long catalogVersion) {
+        static Cached writing() {
+            return new Cached(null, -1);
+        }
+    }
+
+    private final TimetableItemRepository itemRepo;
+    private final TimetableSummaryRepository summaryRepo;
+    private final CourseLookupCache courseLookup;
+    private final CourseCatalogService catalogService;
+    private final Cache<Long, Cached> cache;
+
+    public TimetableSummaryService(TimetableItemRepository itemRepo,
+                                   TimetableSummaryRepository summaryRepo,
+                                   CourseLookupCache courseLookup,
+                                   CourseCatalogService catalogService,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${app.timetable.summary-cache.max-size:10000}") long maxSize,
+                                   @Value("${app.timetable.summary-cache.ttl:PT30M}") Duration ttl) {
+        this.itemRepo = itemRepo;
+        this.summaryRepo = summaryRepo;
+        this.courseLookup = courseLookup;
+        this.catalogService = catalogService;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "timetableSummary");
+    }
+
+    // 호출 측 트랜잭션(읽기 전용 포함) 안에서 사용. 행을 쓰지 않는다
+    public Summary get(Long userId) {
+        CourseCatalog catalog = catalogService.current();
+        Cached c = cache.getIfPresent(userId);
+        if (c != null && c.summary() != null && c.catalogVersion() == catalog.version()) return c.summary();
+
+        Summary s = loadRow(userId, catalog);
+        if (s == null) s = compute(userId, catalog);
+        // 쓰기 중이면 채우지 않고, 읽는 동안 항목이 바뀌었으면(쓰기 시작/커밋) 그 값을 둔다
+        if (c == null || c.summary() != null) {
+            Cached next = new Cached(s, catalog.version());
+            cache.asMap().compute(userId, (k, cur) -> cur == c ? next : cur);
+        }
+        return s;
+    }
+
+    /**
+     * 변경 락 안의 쓰기 경로용: 캐시를 거치지 않고 이 트랜잭션에서 보이는 행(없거나 맞지 않으면 계산)을 쓴다.
+     * (캐시는 다른 인스턴스의 쓰기를 모를 수 있다)
+     */
+    public Summary getForWrite(Long userId) {
+        CourseCatalog catalog = catalogService.current();
+        Summary s = loadRow(userId, catalog);
+        return (s != null) ? s : compute(userId, catalog);
+    }
+
+    /**
+     * 시간표를 바꾼 트랜잭션 끝에서 호출: 요약을 다시 계산해 행을 갱신하고 커밋 후 캐시에 넣는다.
+     * (롤백되면 캐시 항목을 지워 다음 조회가 행/DB 에서 다시 읽게 한다)
+     */
+    public Summary refresh(Long userId) {
+        CourseCatalog catalog = catalogService.current();
+        Summary s = compute(userId, catalog);
+
+        TimetableSummary row = summaryRepo.findByUserIdAndSemesterCode(userId, SemesterConst.SEMESTER_CODE)
+                .orElseGet(() -> TimetableSummary.builder()
+                        .userId(userId)
+                        .semesterCode(SemesterConst.SEMESTER_CODE)
+                        .build());
+        encode(s, row, catalog);
+        summaryRepo.save(row);
+
+        Cached next = new Cached(s, catalog.version());
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.put(userId, next);
+            return s;
+        }
+        cache.put(userId, Cached.writing());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_COMMITTED) cache.put(userId, next);
+                else cache.invalidate(userId);
+            }
+        });
+        return s;
+    }
+
+    private Summary compute(Long userId, CourseCatalog catalog) {
+        List<Long> courseIds = itemRepo.findByUserIdAndSemesterCode(userId, SemesterConst.SEMESTER_CODE).stream()
+                .map(TimetableItem::getCourseId)
+                .sorted()
+                .toList();
+
+        int credits = 0;
+        WeeklySlotMask occupied = WeeklySlotMask.EMPTY;
+        List<Long> notInCatalog = new ArrayList<>();
+        for (Long id : courseIds) {
+            Optional<CourseCatalog.Entry> e = catalog.get(id);
+            if (e.isEmpty()) {
+                notInCatalog.add(id);
+                continue;
+            }
+            if (e.get().credit() != null) credits += e.get().credit();
+            occupied = occupied.or(e.get().mask());
+        }
+        // 스냅샷 재빌드 전에 추가된 강의는 공용 조회 캐시에서
+        for (CourseCatalog.Entry e : courseLookup.getAll(notInCatalog).values()) {
+            if (e.credit() != null) credits += e.credit();
+            occupied = occupied.or(e.mask());
+        }
+        return new Summary(courseIds, credits, occupied);
+    }
+
+    private Summary loadRow(Long userId, CourseCatalog catalog) {
+        return summaryRepo.findByUserIdAndSemesterCode(userId, SemesterConst.SEMESTER_CODE)
+                .map(this::decode)
+                .filter(d -> d.hash() != null && d.hash().equals(hashOf(d.summary().courseIds(), catalog)))
+                .map(Decoded::summary)
+                .orElse(null);
+    }
+
+    // 과목 id 와 현재 카탈로그의 학점/마스크로 만든 해시. 카탈로그에 없는 과목이 있으면 null(행을 믿지 않음)
+    private static Long hashOf(List<Long> courseIds, CourseCatalog catalog) {
+        long h = 17;
+        for (Long id : courseIds) {
+            Optional<CourseCatalog.Entry> e = catalog.get(id);
+            if (e.isEmpty()) return null;
+            h = 31 * h + id;
+            h = 31 * h + (e.get().credit() != null ? e.get().credit() : -1);
+            for (long w : e.get().mask().toLongArray()) h = 31 * h + w;
+            h = 31 * h + (e.get().mask().isIrregular() ? 1 : 0);
+        }
+        return h;
+    }
+
+    private void encode(Summary s, TimetableSummary row, CourseCatalog catalog) {
+        row.setCourseIds(s.courseIds().stream().map(String::valueOf).collect(Collectors.joining(",")));
+        row.setTotalCredits(s.totalCredits());
+        long[] words = s.occupied().toLongArray();
+        ByteBuffer buf = ByteBuffer.allocate(words.length * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        for (long w : words) buf.putLong(w);
+        row.setOccupancy(buf.array());
+        row.setMaskExact(s.occupied().isExact());
+        row.setMaskIrregular(s.occupied().isIrregular());
+        row.setCatalogHash(hashOf(s.courseIds(), catalog));
+    }
+
+    private record Decoded(Summary summary, Long hash) {}
+
+    private Decoded decode(TimetableSummary row) {
+        List<Long> ids = (row.getCourseIds() == null || row.getCourseIds().isBlank())
+                ? List.of()
+                : Arrays.stream(row.getCourseIds().split(",")).map(Long::valueOf).toList();
+        ByteBuffer buf = ByteBuffer.wrap(row.getOccupancy()).order(ByteOrder.LITTLE_ENDIAN);
+        long[] words = new long[row.getOccupancy().length / Long.BYTES];
+        for (int i = 0; i < words.length; i++) words[i] = buf.getLong();
+        WeeklySlotMask mask = WeeklySlotMask.fromLongArray(words, row.isMaskExact(), row.isMaskIrregular());
+        return new Decoded(new Summary(ids, row.getTotalCredits(), mask), row.getCatalogHash());
+    }
+}
@@ -0,0 +1,68 @@
+// src/main/java/com/example/cample/timetable/service/UserMutationLock.java
+package com.example.cample.timetable.service;
+
+import com.example.cample.common.exception.ApiException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 같은 사용자의 시간표 변경을 인스턴스 안에서 직렬화하는 줄무늬(striped) 락.
+ * 사용자 id 를 고정 개수의 락 중 하나에 대응시키므로 메모리는 일정하고, 다른 사용자끼리는
+ * (같은 줄무늬에 걸리지 않는 한) 병렬로 진행된다.
+ * 트랜잭션은 반드시 락 안에서 시작/커밋해야 한다 — 커밋 전에 풀면 다음 요청이 커밋 전 상태를 읽는다.
+ * 여러 인스턴스 사이의 중복은 uq_tt_user_sem_course 제약이 마지막으로 막는다.
+ */
+@Component
+public class UserMutationLock {
+
+    private final ReentrantLock[] stripes;
+    private final long waitNanos;
+
+    public UserMutationLock(@Value("${app.timetable.mutation-lock.stripes:1024}") int stripes,
+                            @Value("${app.timetable.mutation-lock.wait:PT3S}") Duration wait) {
+        // 2의 거듭제곱으로 올림(마스크로 인덱스 계산)
+        int n = Integer.highestOneBit(Math.max(1, stripes - 1)) << 1;
+        this.stripes = new ReentrantLock[n];
+        for (int i = 0; i < n; i++) this.stripes[i] = new ReentrantLock();
+        this.waitNanos = wait.toNanos();
+    }
+
+    public <T> T run(Long userId, Supplier<T> action) {
+        ReentrantLock lock = stripeOf(userId);
+        boolean acquired;
+        try {
+            acquired = lock.tryLock(waitNanos, TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ApiException(HttpStatus.SERVICE_UNAVAILABLE, "요청이 중단되었습니다");
+        }
+        if (!acquired) {
+            throw new ApiException(HttpStatus.TOO_MANY_REQUESTS, "시간표 변경이 처리 중입니다. 잠시 후 다시 시도하세요");
+        }
+        try {
+            return action.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 현재 스레드가 이 사용자의 변경 락 안에 있는지
+    public boolean isHeldByCurrentThread(Long userId) {
+        return stripeOf(userId).isHeldByCurrentThread();
+    }
+
+    private ReentrantLock stripeOf(Long userId) {
+        // 연속된 id 가 이웃 줄무늬에 몰리지 않도록 비트를 섞는다
+        int h = Long.hashCode(userId);
+        h ^= (h >>> 16);
+        h *= 0x45d9f3b;
+        h ^= (h >>> 16);
+        return stripes[h & (stripes.length - 1)];
+    }
+}
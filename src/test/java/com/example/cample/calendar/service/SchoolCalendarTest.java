@@ -0,0 +1,90 @@
+package com.example.cample.calendar.service;
+
+import com.example.cample.calendar.domain.EventType;
+import com.example.cample.calendar.dto.CalendarEventDto;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SchoolCalendarTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 3, 1, 0, 0);
+
+    private static CalendarEventDto event(long id, LocalDateTime start, LocalDateTime end) {
+        return CalendarEventDto.builder()
+                .id(id)
+                .title("e" + id)
+                .startAt(start)
+                .endAt(end)
+                .type(EventType.SCHOOL)
+                .origin("SCHOOL")
+                .important(false)
+                .build();
+    }
+
+    @Test
+    void boundariesAreHalfOpen() {
+        var e = event(1, BASE.plusHours(9), BASE.plusHours(10));
+        SchoolCalendar cal = SchoolCalendar.build(1, List.of(e));
+
+        assertEquals(1, cal.intersect(BASE.plusHours(9), BASE.plusHours(10)).size());
+        assertEquals(0, cal.intersect(BASE.plusHours(10), BASE.plusHours(11)).size());   // 끝 = from
+        assertEquals(0, cal.intersect(BASE.plusHours(8), BASE.plusHours(9)).size());     // 시작 = to
+        assertEquals(1, cal.intersect(BASE.plusHours(9).plusMinutes(59), BASE.plusHours(12)).size());
+    }
+
+    @Test
+    void longEventsBeforeRangeAreFound() {
+        // 학기 전체에 걸친 일정 + 짧은 일정 다수: 시작이 한참 앞서도 겹치면 나와야 한다
+        List<CalendarEventDto> events = new ArrayList<>();
+        events.add(event(1, BASE, BASE.plusMonths(4)));
+        for (int i = 0; i < 100; i++) {
+            events.add(event(100 + i, BASE.plusDays(i), BASE.plusDays(i).plusHours(2)));
+        }
+        SchoolCalendar cal = SchoolCalendar.build(1, events);
+
+        List<CalendarEventDto> got = cal.intersect(BASE.plusDays(50).plusHours(3), BASE.plusDays(51));
+        assertEquals(List.of(1L), got.stream().map(CalendarEventDto::getId).toList());
+    }
+
+    @Test
+    void returnsCopies() {
+        SchoolCalendar cal = SchoolCalendar.build(1, List.of(event(1, BASE, BASE.plusHours(1))));
+        cal.intersect(BASE, BASE.plusDays(1)).get(0).setTitle("changed");
+        assertEquals("e1", cal.intersect(BASE, BASE.plusDays(1)).get(0).getTitle());
+    }
+
+    @Test
+    void matchesLinearScan() {
+        Random rnd = new Random(11);
+        for (int round = 0; round < 50; round++) {
+            int n = rnd.nextInt(300);
+            List<CalendarEventDto> events = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                LocalDateTime s = BASE.plusMinutes(rnd.nextInt(60 * 24 * 120));
+                // 대부분 짧고, 가끔 며칠~몇 주짜리
+                long len = rnd.nextInt(10) == 0 ? rnd.nextInt(60 * 24 * 30) : 30 + rnd.nextInt(240);
+                events.add(event(i + 1, s, s.plusMinutes(len)));
+            }
+            SchoolCalendar cal = SchoolCalendar.build(round, events);
+
+            for (int q = 0; q < 20; q++) {
+                LocalDateTime from = BASE.plusMinutes(rnd.nextInt(60 * 24 * 130) - 60 * 24 * 5);
+                LocalDateTime to = from.plusMinutes(1 + rnd.nextInt(60 * 24 * 31));
+                List<Long> expected = events.stream()
+                        .filter(e -> e.getStartAt().isBefore(to) && e.getEndAt().isAfter(from))
+                        .sorted(Comparator.comparing(CalendarEventDto::getStartAt).thenComparing(CalendarEventDto::getId))
+                        .map(CalendarEventDto::getId)
+                        .toList();
+                List<Long> got = cal.intersect(from, to).stream().map(CalendarEventDto::getId).toList();
+                assertEquals(expected, got);
+            }
+        }
+    }
+}
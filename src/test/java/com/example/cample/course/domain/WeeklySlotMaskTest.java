@@ -0,0 +1,104 @@
+package com.example.cample.course.domain;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class WeeklySlotMaskTest {
+
+    // TimetableService.overlaps 와 동일한 기준
+    private static boolean overlaps(LocalTime aStart, LocalTime aEnd, LocalTime bStart, LocalTime bEnd) {
+        return aStart.isBefore(bEnd) && bStart.isBefore(aEnd);
+    }
+
+    private static boolean pairwiseConflict(List<CourseTime> a, List<CourseTime> b) {
+        for (CourseTime x : a) {
+            for (CourseTime y : b) {
+                if (x.getDayOfWeek() == y.getDayOfWeek()
+                        && overlaps(x.getStartTime(), x.getEndTime(), y.getStartTime(), y.getEndTime())) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static CourseTime slot(DayOfWeek d, LocalTime s, LocalTime e) {
+        return CourseTime.builder().dayOfWeek(d).startTime(s).endTime(e).build();
+    }
+
+    private static List<CourseTime> randomSlots(Random rnd, int stepMinutes) {
+        List<CourseTime> out = new ArrayList<>();
+        int n = 1 + rnd.nextInt(3);
+        for (int i = 0; i < n; i++) {
+            DayOfWeek d = DayOfWeek.of(1 + rnd.nextInt(7));
+            int steps = 24 * 60 / stepMinutes;
+            int a = rnd.nextInt(steps - 1);
+            int b = a + 1 + rnd.nextInt(Math.min(steps - a - 1, 36));
+            LocalTime s = LocalTime.MIN.plusMinutes((long) a * stepMinutes);
+            LocalTime e = (b * stepMinutes >= 24 * 60) ? LocalTime.MAX : LocalTime.MIN.plusMinutes((long) b * stepMinutes);
+            out.add(slot(d, s, e));
+        }
+        return out;
+    }
+
+    @Test
+    void alignedSlotsMatchPairwiseOverlap() {
+        Random rnd = new Random(42);
+        for (int i = 0; i < 20_000; i++) {
+            List<CourseTime> a = randomSlots(rnd, 5);
+            List<CourseTime> b = randomSlots(rnd, 5);
+            WeeklySlotMask ma = WeeklySlotMask.ofCourseTimes(a);
+            WeeklySlotMask mb = WeeklySlotMask.ofCourseTimes(b);
+            if (ma.isExact() && mb.isExact()) {
+                assertEquals(pairwiseConflict(a, b), ma.intersects(mb));
+            }
+        }
+    }
+
+    @Test
+    void unalignedSlotsNeverMissAnOverlap() {
+        Random rnd = new Random(7);
+        for (int i = 0; i < 20_000; i++) {
+            List<CourseTime> a = randomSlots(rnd, 1);
+            List<CourseTime> b = randomSlots(rnd, 1);
+            boolean expected = pairwiseConflict(a, b);
+            boolean masked = WeeklySlotMask.ofCourseTimes(a).intersects(WeeklySlotMask.ofCourseTimes(b));
+            if (expected) assertTrue(masked);
+        }
+    }
+
+    @Test
+    void touchingBoundariesDoNotConflict() {
+        var a = WeeklySlotMask.of(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(10, 15));
+        var b = WeeklySlotMask.of(DayOfWeek.MONDAY, LocalTime.of(10, 15), LocalTime.of(11, 30));
+        var c = WeeklySlotMask.of(DayOfWeek.TUESDAY, LocalTime.of(9, 0), LocalTime.of(10, 15));
+        assertFalse(a.intersects(b));
+        assertFalse(a.intersects(c));
+        assertTrue(a.intersects(WeeklySlotMask.of(DayOfWeek.MONDAY, LocalTime.of(10, 10), LocalTime.of(10, 20))));
+    }
+
+    @Test
+    void freeTimeComplement() {
+        var occupied = WeeklySlotMask.of(DayOfWeek.MONDAY, LocalTime.of(9, 0), LocalTime.of(12, 0));
+        var free = occupied.complement();
+        assertTrue(WeeklySlotMask.of(DayOfWeek.MONDAY, LocalTime.of(12, 0), LocalTime.of(13, 0)).fitsWithin(free));
+        assertTrue(WeeklySlotMask.of(DayOfWeek.FRIDAY, LocalTime.of(9, 0), LocalTime.of(12, 0)).fitsWithin(free));
+        assertFalse(WeeklySlotMask.of(DayOfWeek.MONDAY, LocalTime.of(11, 0), LocalTime.of(13, 0)).fitsWithin(free));
+        assertEquals(7 * WeeklySlotMask.SLOTS_PER_DAY, occupied.cardinality() + free.cardinality());
+    }
+
+    @Test
+    void irregularSlotsAreTreatedConservatively() {
+        var broken = WeeklySlotMask.ofCourseTimes(List.of(slot(null, LocalTime.of(9, 0), LocalTime.of(10, 0))));
+        assertTrue(broken.isIrregular());
+        assertTrue(broken.intersects(WeeklySlotMask.EMPTY));
+        assertFalse(broken.fitsWithin(WeeklySlotMask.EMPTY.complement()));
+    }
+}
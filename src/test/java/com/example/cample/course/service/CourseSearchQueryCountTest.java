@@ -0,0 +1,112 @@
+package com.example.cample.course.service;
+
+import com.example.cample.course.domain.Course;
+import com.example.cample.course.domain.CourseCategory;
+import com.example.cample.course.domain.CourseRatingSummary;
+import com.example.cample.course.domain.CourseTime;
+import com.example.cample.course.dto.CourseDto;
+import com.example.cample.course.dto.CoursePageDto;
+import com.example.cample.course.repo.CourseRatingSummaryRepository;
+import com.example.cample.course.repo.CourseRepository;
+import com.example.cample.course.repo.CourseReviewRepository;
+import com.example.cample.timetable.service.TimetableSummaryService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 검색 경로의 DB 접근은 평점 요약 IN 조회 한 번뿐이어야 한다(강의/카테고리/강의시간은 카탈로그 스냅샷).
+ * 결과 크기와 무관하게 횟수가 고정인지 확인하는 N+1 회귀 방지용.
+ */
+class CourseSearchQueryCountTest {
+
+    private static final int COURSES = 50;
+
+    private CourseRepository courseRepo;
+    private CourseReviewRepository reviewRepo;
+    private CourseRatingSummaryRepository summaryRepo;
+    private CourseLookupCache courseLookup;
+    private TimetableSummaryService timetableSummary;
+    private CourseService service;
+
+    @BeforeEach
+    void setUp() {
+        CourseCategory major = CourseCategory.builder().id(1L).name("전공").build();
+        List<Course> courses = new ArrayList<>();
+        List<CourseTime> times = new ArrayList<>();
+        for (long id = 1; id <= COURSES; id++) {
+            Course c = Course.builder()
+                    .id(id).semesterCode("2025-2").courseCode("CS" + id).name("자료구조 " + id)
+                    .professor("교수" + id).section("01").credit(3).year("2").category(major)
+                    .build();
+            courses.add(c);
+            times.add(CourseTime.builder()
+                    .id(id).course(c).dayOfWeek(DayOfWeek.of(1 + (int) (id % 5)))
+                    .startTime(LocalTime.of(9, 0)).endTime(LocalTime.of(10, 15)).room("B" + id)
+                    .build());
+        }
+        CourseCatalog catalog = CourseCatalog.build(1L, courses, times, Map.of());
+
+        courseRepo = mock(CourseRepository.class);
+        reviewRepo = mock(CourseReviewRepository.class);
+        summaryRepo = mock(CourseRatingSummaryRepository.class);
+        courseLookup = mock(CourseLookupCache.class);
+        timetableSummary = mock(TimetableSummaryService.class);
+        when(summaryRepo.findAllById(any())).thenReturn(List.of(
+                CourseRatingSummary.builder().courseId(1L).reviewCount(2).ratingSum(9.0).ratingAvg(4.5).build()));
+
+        CourseCatalogService catalogService = mock(CourseCatalogService.class);
+        when(catalogService.current()).thenReturn(catalog);
+        CourseRatingService ratingService = new CourseRatingService(summaryRepo, reviewRepo);
+        CourseSearchCache searchCache = new CourseSearchCache(catalogService, ratingService,
+                new SimpleMeterRegistry(), 100_000, Duration.ofMinutes(10));
+
+        service = new CourseService(courseRepo, reviewRepo, catalogService, ratingService,
+                searchCache, courseLookup, timetableSummary);
+    }
+
+    private void assertOnlyRatingSummaryQueries(int expected) {
+        verify(summaryRepo, times(expected)).findAllById(any());
+        verifyNoMoreInteractions(summaryRepo);
+        verifyNoInteractions(courseRepo, reviewRepo, courseLookup);
+    }
+
+    @Test
+    void searchRunsOneRatingSummaryQuery() {
+        List<CourseDto> out = service.searchByNameV2("자료구조", null, List.of(), false, List.of(),
+                "ratingDesc", null, null, null, null, null);
+
+        assertEquals(COURSES, out.size());
+        assertEquals(4.5, out.get(0).getRatingAvg());
+        assertOnlyRatingSummaryQueries(1);
+    }
+
+    @Test
+    void cachedSearchRunsNoQuery() {
+        service.searchV2(null, List.of(), false, List.of(), "code", null, null, null, null, null);
+        service.searchV2(null, List.of(), false, List.of(), "code", null, null, null, null, null);
+
+        assertOnlyRatingSummaryQueries(1);
+    }
+
+    @Test
+    void cursorPageSortedByRatingRunsOneQuery() {
+        CoursePageDto page = service.searchPageV2(null, null, null, null, null, false, null,
+                List.of(), false, List.of(), "ratingDesc", null, null, null, null, null, null, 20);
+
+        assertEquals(20, page.getItems().size());
+        assertTrue(page.isHasNext());
+        assertOnlyRatingSummaryQueries(1);
+    }
+}
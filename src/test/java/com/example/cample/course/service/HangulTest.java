@@ -0,0 +1,83 @@
+package com.example.cample.course.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class HangulTest {
+
+    @Test
+    void syllablesBecomeInitials() {
+        assertEquals("ㅈㄹㄱㅈ", Hangul.chosungKey("자료구조"));
+        assertEquals("ㄲㅆㅃ", Hangul.chosungKey("까쌀빵"));
+        assertEquals("ㄱㅎ", Hangul.chosungKey("가힣"));
+        assertEquals(0, Hangul.initialIndex('가'));
+        assertEquals(18, Hangul.initialIndex('힣'));
+        assertEquals(-1, Hangul.initialIndex('a'));
+    }
+
+    @Test
+    void whitespaceIsDroppedAndOtherCharsAreLowercased() {
+        assertEquals("ㅈㄹㄱㅈ", Hangul.chosungKey("자료 구조"));
+        assertEquals("cㅇㅇ", Hangul.chosungKey("C언어"));
+        assertEquals("ㅋㅍㅌ2", Hangul.chosungKey("컴퓨터 2"));
+        assertEquals("javaㅍㄹㄱㄹㅁ", Hangul.chosungKey("Java 프로그래밍"));
+        assertNull(Hangul.chosungKey(null));
+        assertEquals("", Hangul.chosungKey("  "));
+    }
+
+    @Test
+    void jamoInputMapsToCompatibilityInitials() {
+        // 호환 자모는 그대로, NFD 음절은 NFC 로 합친 뒤, 홀로 쓰인 첫가끝 초성은 호환 자모로
+        assertEquals("ㅈㄹㄱㅈ", Hangul.chosungKey("ㅈㄹㄱㅈ"));
+        assertEquals("ㅈㄹㄱㅈ", Hangul.chosungKey(Normalizer.normalize("자료구조", Normalizer.Form.NFD)));
+        assertEquals("ㄱㄴ", Hangul.chosungKey("ᄀᄂ"));
+    }
+
+    @Test
+    void matchPrefixKeepsOnlyLeadingMatches() {
+        List<String> names = List.of("자료구조", "고급자료구조", "자바", "C언어", "운영체제");
+        NGramIndex index = NGramIndex.build(names.stream().map(Hangul::chosungKey).toList());
+
+        BitSet contains = index.match("ㅈㄹ");
+        BitSet prefix = index.matchPrefix("ㅈㄹ");
+        assertTrue(contains.get(0));
+        assertTrue(contains.get(1));
+        assertTrue(prefix.get(0));
+        assertFalse(prefix.get(1));
+        assertFalse(prefix.get(2));
+
+        assertTrue(index.matchPrefix("cㅇ").get(3));
+        assertTrue(index.matchPrefix("ㅇㅇㅊㅈ").get(4));   // trigram 교집합 경로
+        assertFalse(index.matchPrefix("ㅇㅊㅈ").get(4));
+    }
+
+    @Test
+    void randomPrefixQueriesMatchStartsWith() {
+        String alphabet = "ㄱㄴㄷㄹㅈa1";
+        Random rnd = new Random(3);
+        List<String> keys = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            StringBuilder sb = new StringBuilder();
+            int n = rnd.nextInt(8);
+            for (int j = 0; j < n; j++) sb.append(alphabet.charAt(rnd.nextInt(alphabet.length())));
+            keys.add(sb.toString());
+        }
+        NGramIndex index = NGramIndex.build(keys);
+        for (int i = 0; i < 2_000; i++) {
+            StringBuilder q = new StringBuilder();
+            int n = 1 + rnd.nextInt(4);
+            for (int j = 0; j < n; j++) q.append(alphabet.charAt(rnd.nextInt(alphabet.length())));
+            BitSet got = index.matchPrefix(q.toString());
+            for (int k = 0; k < keys.size(); k++) {
+                assertEquals(keys.get(k).startsWith(q.toString()), got.get(k), keys.get(k) + " / " + q);
+            }
+        }
+    }
+}
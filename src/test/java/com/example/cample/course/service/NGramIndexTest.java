@@ -0,0 +1,104 @@
+package com.example.cample.course.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NGramIndexTest {
+
+    // 대소문자/한글/숫자/공백이 섞이도록 작은 알파벳에서 뽑는다(겹치는 부분 문자열이 자주 생기게)
+    private static final String ALPHABET = "가나다라자료구조aAbB1 ";
+
+    // lower(x) like lower('%q%') 와 같은 기준
+    private static boolean naiveContains(String value, String query) {
+        if (value == null) return false;
+        String v = Normalizer.normalize(value, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        String q = Normalizer.normalize(query, Normalizer.Form.NFC).toLowerCase(Locale.ROOT);
+        return v.contains(q);
+    }
+
+    private static String randomString(Random rnd, int maxLen) {
+        int n = rnd.nextInt(maxLen + 1);
+        StringBuilder sb = new StringBuilder(n);
+        for (int i = 0; i < n; i++) sb.append(ALPHABET.charAt(rnd.nextInt(ALPHABET.length())));
+        return sb.toString();
+    }
+
+    private static List<String> randomValues(Random rnd, int count) {
+        List<String> values = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (rnd.nextInt(20) == 0) {
+                values.add(null);
+                continue;
+            }
+            String v = randomString(rnd, 12);
+            // 일부는 NFD(첫가끝 자모)로 저장된 값
+            values.add(rnd.nextBoolean() ? v : Normalizer.normalize(v, Normalizer.Form.NFD));
+        }
+        return values;
+    }
+
+    private static void assertMatchesNaive(NGramIndex index, List<String> values, String query) {
+        BitSet got = index.match(query);
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(naiveContains(values.get(i), query), got.get(i),
+                    "value=" + values.get(i) + " query=" + query);
+        }
+    }
+
+    @Test
+    void randomQueriesMatchStringContains() {
+        Random rnd = new Random(42);
+        List<String> values = randomValues(rnd, 500);
+        NGramIndex index = NGramIndex.build(values);
+        for (int i = 0; i < 3_000; i++) {
+            String q = randomString(rnd, 6);
+            if (q.isEmpty()) continue;
+            assertMatchesNaive(index, values, q);
+        }
+    }
+
+    @Test
+    void oneAndTwoCharQueriesAreAnsweredFromPostings() {
+        Random rnd = new Random(7);
+        List<String> values = randomValues(rnd, 300);
+        NGramIndex index = NGramIndex.build(values);
+        for (int a = 0; a < ALPHABET.length(); a++) {
+            String one = String.valueOf(ALPHABET.charAt(a));
+            assertMatchesNaive(index, values, one);
+            for (int b = 0; b < ALPHABET.length(); b++) {
+                assertMatchesNaive(index, values, one + ALPHABET.charAt(b));
+            }
+        }
+    }
+
+    @Test
+    void normalizesUnicodeFormAndCase() {
+        String nfd = Normalizer.normalize("자료구조", Normalizer.Form.NFD);
+        NGramIndex index = NGramIndex.build(List.of(nfd, "Java Programming", "C언어"));
+
+        assertTrue(index.match("료구").get(0));
+        assertTrue(index.match(Normalizer.normalize("료", Normalizer.Form.NFD)).get(0));
+        assertTrue(index.match("JAVA").get(1));
+        assertTrue(index.match("gram").get(1));
+        assertTrue(index.match("c언").get(2));
+        assertFalse(index.match("자료구조론").get(0));
+    }
+
+    @Test
+    void emptyQueryMatchesEveryNonNullValue() {
+        NGramIndex index = NGramIndex.build(Arrays.asList("a", null, "b"));
+        BitSet all = index.match("");
+        assertTrue(all.get(0));
+        assertFalse(all.get(1));
+        assertTrue(all.get(2));
+    }
+}
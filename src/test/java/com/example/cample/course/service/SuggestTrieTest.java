@@ -0,0 +1,96 @@
+package com.example.cample.course.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class SuggestTrieTest {
+
+    // SuggestTrie.RANK 와 같은 순서: 점수 내림차순 → 짧은 텍스트 → 사전순
+    private static final Comparator<SuggestTrie.Suggestion> RANK = Comparator
+            .comparingLong(SuggestTrie.Suggestion::score).reversed()
+            .thenComparingInt(s -> s.text().length())
+            .thenComparing(SuggestTrie.Suggestion::text);
+
+    private static List<SuggestTrie.Suggestion> bruteForce(List<SuggestTrie.Suggestion> suggestions,
+                                                           List<Map.Entry<String, Integer>> keyed,
+                                                           String prefix, int limit) {
+        Set<Integer> hit = new HashSet<>();
+        for (var e : keyed) {
+            if (e.getKey().startsWith(prefix)) hit.add(e.getValue());
+        }
+        return hit.stream().map(suggestions::get).sorted(RANK).limit(limit).toList();
+    }
+
+    private static SuggestTrie.Suggestion s(String text, long score) {
+        return new SuggestTrie.Suggestion(text, "NAME", score);
+    }
+
+    @Test
+    void randomPrefixesMatchBruteForceTopK() {
+        Random rnd = new Random(11);
+        String alphabet = "abcdㄱㄴ";
+        List<SuggestTrie.Suggestion> suggestions = new ArrayList<>();
+        List<Map.Entry<String, Integer>> keyed = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            StringBuilder sb = new StringBuilder();
+            int n = 1 + rnd.nextInt(7);
+            for (int j = 0; j < n; j++) sb.append(alphabet.charAt(rnd.nextInt(alphabet.length())));
+            // 점수 범위를 좁혀 동점이 자주 생기게
+            suggestions.add(s(sb + "#" + i, rnd.nextInt(5)));
+            keyed.add(Map.entry(sb.toString(), i));
+            // 일부는 두 번째 키(초성 키처럼)로도 등록
+            if (rnd.nextInt(4) == 0) keyed.add(Map.entry(new StringBuilder(sb).reverse().toString(), i));
+        }
+        int k = 10;
+        SuggestTrie trie = SuggestTrie.build(suggestions, keyed, k);
+
+        for (int i = 0; i < 3_000; i++) {
+            StringBuilder q = new StringBuilder();
+            int n = 1 + rnd.nextInt(5);
+            for (int j = 0; j < n; j++) q.append(alphabet.charAt(rnd.nextInt(alphabet.length())));
+            int limit = 1 + rnd.nextInt(k + 2);
+            assertEquals(bruteForce(suggestions, keyed, q.toString(), Math.min(limit, k)),
+                    trie.suggest(q.toString(), limit), "prefix=" + q + " limit=" + limit);
+        }
+    }
+
+    @Test
+    void tiesBreakByLengthThenText() {
+        List<SuggestTrie.Suggestion> suggestions = List.of(s("자료구조론", 3), s("자료구조", 3), s("자바", 3), s("자료", 5));
+        List<Map.Entry<String, Integer>> keyed = List.of(
+                Map.entry("자료구조론", 0), Map.entry("자료구조", 1), Map.entry("자바", 2), Map.entry("자료", 3));
+        SuggestTrie trie = SuggestTrie.build(suggestions, keyed, 10);
+
+        assertEquals(List.of(s("자료", 5), s("자바", 3), s("자료구조", 3), s("자료구조론", 3)), trie.suggest("자", 10));
+        assertEquals(List.of(s("자료", 5), s("자료구조", 3)), trie.suggest("자료", 2));
+    }
+
+    @Test
+    void compressedEdgesSplitAndMatchMidEdge() {
+        // "program" 단일 간선이 "progress"/"pro" 추가로 분기되는 경우
+        List<SuggestTrie.Suggestion> suggestions = List.of(s("program", 1), s("progress", 2), s("pro", 0));
+        List<Map.Entry<String, Integer>> keyed = List.of(
+                Map.entry("program", 0), Map.entry("progress", 1), Map.entry("pro", 2));
+        SuggestTrie trie = SuggestTrie.build(suggestions, keyed, 5);
+
+        assertEquals(List.of(s("progress", 2), s("program", 1), s("pro", 0)), trie.suggest("p", 5));
+        assertEquals(List.of(s("progress", 2), s("program", 1)), trie.suggest("prog", 5));
+        assertEquals(List.of(s("program", 1)), trie.suggest("progra", 5));   // 간선 중간에서 끝나는 질의
+        assertEquals(List.of(), trie.suggest("progx", 5));
+        assertEquals(List.of(), trie.suggest("programs", 5));
+        assertEquals(List.of(), trie.suggest("", 5));
+    }
+
+    @Test
+    void sameSuggestionUnderTwoKeysAppearsOnce() {
+        List<SuggestTrie.Suggestion> suggestions = List.of(s("자료구조", 1));
+        List<Map.Entry<String, Integer>> keyed = List.of(Map.entry("자료구조", 0), Map.entry("ㅈㄹㄱㅈ", 0), Map.entry("자ㄹ", 0));
+        SuggestTrie trie = SuggestTrie.build(suggestions, keyed, 5);
+
+        assertEquals(List.of(s("자료구조", 1)), trie.suggest("자", 5));
+        assertEquals(List.of(s("자료구조", 1)), trie.suggest("ㅈㄹ", 5));
+    }
+}
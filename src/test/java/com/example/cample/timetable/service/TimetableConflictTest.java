@@ -0,0 +1,133 @@
+package com.example.cample.timetable.service;
+
+import com.example.cample.calendar.service.CalendarService;
+import com.example.cample.common.constant.SemesterConst;
+import com.example.cample.course.domain.WeeklySlotMask;
+import com.example.cample.course.service.CourseCatalog;
+import com.example.cample.course.service.CourseCatalogService;
+import com.example.cample.course.service.CourseLookupCache;
+import com.example.cample.timetable.domain.TimetableItem;
+import com.example.cample.timetable.dto.CartAddResult;
+import com.example.cample.timetable.dto.TryAddResponse;
+import com.example.cample.timetable.repo.TimetableCalendarMapRepository;
+import com.example.cample.timetable.repo.TimetableItemRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// 요일/시각이 비어 있는 슬롯은 단건 추가(findConflicts)와 장바구니(anyOverlap) 모두 충돌로 보지 않는다
+class TimetableConflictTest {
+
+    private static final long USER = 7L;
+
+    private final TimetableItemRepository itemRepo = mock(TimetableItemRepository.class);
+    private final CourseLookupCache courseLookup = mock(CourseLookupCache.class);
+    private final CalendarService calendarService = mock(CalendarService.class);
+    private final TimetableSummaryService summaryService = mock(TimetableSummaryService.class);
+    private final Map<Long, CourseCatalog.Entry> courses = new HashMap<>();
+    private TimetableService service;
+
+    @BeforeEach
+    void setUp() {
+        TransactionTemplate tx = mock(TransactionTemplate.class);
+        when(tx.execute(any())).thenAnswer(inv -> {
+            TransactionCallback<?> cb = inv.getArgument(0);
+            return cb.doInTransaction(null);
+        });
+        when(courseLookup.get(anyLong())).thenAnswer(inv -> Optional.ofNullable(courses.get(inv.<Long>getArgument(0))));
+        when(courseLookup.getAll(any())).thenAnswer(inv -> {
+            Map<Long, CourseCatalog.Entry> out = new HashMap<>();
+            for (Long id : inv.<Collection<Long>>getArgument(0)) {
+                if (courses.containsKey(id)) out.put(id, courses.get(id));
+            }
+            return out;
+        });
+        when(itemRepo.save(any())).thenAnswer(inv -> {
+            TimetableItem i = inv.getArgument(0);
+            i.setId(100L + i.getCourseId());
+            return i;
+        });
+        when(itemRepo.saveAll(any())).thenAnswer(inv -> {
+            List<TimetableItem> out = new ArrayList<>();
+            for (TimetableItem i : inv.<List<TimetableItem>>getArgument(0)) {
+                i.setId(100L + i.getCourseId());
+                out.add(i);
+            }
+            return out;
+        });
+        when(calendarService.createLectureSeries(eq(USER), anyList())).thenReturn(Map.of());
+
+        service = new TimetableService(itemRepo, mock(TimetableCalendarMapRepository.class), courseLookup,
+                calendarService, summaryService, mock(CourseCatalogService.class),
+                new UserMutationLock(16, Duration.ofSeconds(1)), tx);
+    }
+
+    @Test
+    void slotWithoutDayDoesNotConflictOnSingleAdd() {
+        // 기존: 월 09:00~10:30 + 요일 미정 슬롯
+        putCourse(1L, slot(DayOfWeek.MONDAY, 9, 0, 10, 30), slot(null, 9, 0, 10, 30));
+        putCourse(2L, slot(DayOfWeek.TUESDAY, 9, 0, 10, 30));
+        existing(1L);
+
+        TryAddResponse r = service.tryAdd(USER, 2L);
+
+        assertFalse(r.isConflict());
+    }
+
+    @Test
+    void slotWithoutDayOrTimeDoesNotConflictInCart() {
+        putCourse(1L, slot(DayOfWeek.MONDAY, 9, 0, 10, 30), slot(null, 9, 0, 10, 30));
+        putCourse(2L, slot(DayOfWeek.TUESDAY, 9, 0, 10, 30));
+        putCourse(3L, new CourseCatalog.Slot(DayOfWeek.WEDNESDAY, null, null, null));
+        existing(1L);
+
+        CartAddResult r = service.cartAdd(USER, List.of(2L, 3L));
+
+        assertEquals(List.of(2L, 3L), r.getAdded().stream().map(CartAddResult.Added::getCourseId).toList());
+        assertTrue(r.getRejected().isEmpty());
+    }
+
+    @Test
+    void regularOverlapIsStillRejectedInCart() {
+        putCourse(1L, slot(DayOfWeek.MONDAY, 9, 0, 10, 30), slot(null, 9, 0, 10, 30));
+        putCourse(2L, slot(DayOfWeek.MONDAY, 10, 0, 11, 0));
+        existing(1L);
+
+        CartAddResult r = service.cartAdd(USER, List.of(2L));
+
+        assertTrue(r.getAdded().isEmpty());
+        assertEquals("CONFLICT", r.getRejected().get(0).getReason());
+        assertEquals(List.of(1L), r.getRejected().get(0).getConflictCourseIds());
+    }
+
+    private void existing(Long courseId) {
+        TimetableItem item = TimetableItem.builder()
+                .id(100L + courseId).userId(USER).semesterCode(SemesterConst.SEMESTER_CODE).courseId(courseId).build();
+        when(itemRepo.findByUserIdAndSemesterCode(USER, SemesterConst.SEMESTER_CODE)).thenReturn(List.of(item));
+        // 요약 마스크가 겹쳐야 실제 시각 비교까지 간다
+        when(summaryService.getForWrite(USER)).thenReturn(
+                new TimetableSummaryService.Summary(List.of(courseId), 3, courses.get(courseId).mask()));
+    }
+
+    private void putCourse(Long id, CourseCatalog.Slot... slots) {
+        WeeklySlotMask.Builder b = WeeklySlotMask.builder();
+        for (CourseCatalog.Slot s : slots) b.add(s.dayOfWeek(), s.startTime(), s.endTime());
+        courses.put(id, new CourseCatalog.Entry(id, SemesterConst.SEMESTER_CODE, "C" + id, "과목" + id, "교수",
+                "01", 3, "1", null, null, List.of(slots), b.build()));
+    }
+
+    private static CourseCatalog.Slot slot(DayOfWeek day, int sh, int sm, int eh, int em) {
+        return new CourseCatalog.Slot(day, LocalTime.of(sh, sm), LocalTime.of(eh, em), null);
+    }
+}
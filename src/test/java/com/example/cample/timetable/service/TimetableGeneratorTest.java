@@ -0,0 +1,180 @@
+package com.example.cample.timetable.service;
+
+import com.example.cample.course.domain.WeeklySlotMask;
+import com.example.cample.course.service.CourseCatalog;
+import com.example.cample.timetable.domain.RankCriterion;
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TimetableGeneratorTest {
+
+    private static final List<RankCriterion> ALL =
+            List.of(RankCriterion.FEWEST_DAYS, RankCriterion.NO_EARLY, RankCriterion.MIN_GAPS);
+    private static final LocalTime TEN = LocalTime.of(10, 0);
+
+    private static long nextId = 1;
+
+    private static CourseCatalog.Slot slot(DayOfWeek d, String s, String e) {
+        return new CourseCatalog.Slot(d, LocalTime.parse(s), LocalTime.parse(e), null);
+    }
+
+    private static CourseCatalog.Entry section(String code, CourseCatalog.Slot... slots) {
+        WeeklySlotMask.Builder b = WeeklySlotMask.builder();
+        for (CourseCatalog.Slot s : slots) b.add(s.dayOfWeek(), s.startTime(), s.endTime());
+        long id = nextId++;
+        return new CourseCatalog.Entry(id, "2025-2", code, code, "prof", String.valueOf(id), 3, "1",
+                null, null, List.of(slots), b.build());
+    }
+
+    // TimetableService.overlaps 와 동일한 기준
+    private static boolean conflictFree(List<CourseCatalog.Entry> picks) {
+        for (int i = 0; i < picks.size(); i++) {
+            for (int j = i + 1; j < picks.size(); j++) {
+                for (CourseCatalog.Slot x : picks.get(i).slots()) {
+                    for (CourseCatalog.Slot y : picks.get(j).slots()) {
+                        if (x.dayOfWeek() == y.dayOfWeek()
+                                && x.startTime().isBefore(y.endTime()) && y.startTime().isBefore(x.endTime())) {
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    @Test
+    void picksOneSectionPerCourseWithoutOverlap() {
+        var a1 = section("A", slot(DayOfWeek.MONDAY, "09:00", "10:30"));
+        var a2 = section("A", slot(DayOfWeek.TUESDAY, "09:00", "10:30"));
+        var b1 = section("B", slot(DayOfWeek.MONDAY, "10:00", "11:30"));   // a1 과 겹침
+        var b2 = section("B", slot(DayOfWeek.MONDAY, "10:30", "12:00"));   // 경계만 맞닿음
+
+        var out = TimetableGenerator.search(List.of(List.of(a1, a2), List.of(b1, b2)),
+                ALL, TEN, 10, Duration.ofSeconds(5));
+
+        assertTrue(out.complete());
+        assertFalse(out.results().isEmpty());
+        for (var r : out.results()) {
+            assertEquals(2, r.picks().size());
+            assertTrue(conflictFree(r.picks()));
+        }
+        // 월요일 하루에 몰린 a1+b2 가 1순위(등교 1일)
+        var top = out.results().get(0);
+        assertEquals(1, top.days());
+        assertEquals(List.of(a1.id(), b2.id()), top.picks().stream().map(CourseCatalog.Entry::id).toList());
+    }
+
+    @Test
+    void noSolutionWhenEverySectionCollides() {
+        var a = section("A", slot(DayOfWeek.FRIDAY, "13:00", "15:00"));
+        var b = section("B", slot(DayOfWeek.FRIDAY, "14:00", "16:00"));
+        var out = TimetableGenerator.search(List.of(List.of(a), List.of(b)), ALL, TEN, 5, Duration.ofSeconds(5));
+        assertTrue(out.complete());
+        assertTrue(out.results().isEmpty());
+    }
+
+    @Test
+    void nonSlotAlignedTimesAreCheckedExactly() {
+        // 5분 슬롯 경계가 아닌 시각: 마스크는 겹치지만 실제로는 맞닿기만 함
+        var a = section("A", slot(DayOfWeek.WEDNESDAY, "09:00", "10:13"));
+        var b = section("B", slot(DayOfWeek.WEDNESDAY, "10:13", "11:00"));
+        var out = TimetableGenerator.search(List.of(List.of(a), List.of(b)), ALL, TEN, 5, Duration.ofSeconds(5));
+        assertEquals(1, out.results().size());
+    }
+
+    @Test
+    void gapsAndEarlyClassesAreCounted() {
+        var a = section("A", slot(DayOfWeek.MONDAY, "09:00", "10:00"));
+        var b = section("B", slot(DayOfWeek.MONDAY, "13:00", "14:00"));
+        var out = TimetableGenerator.search(List.of(List.of(a), List.of(b)), ALL, TEN, 1, Duration.ofSeconds(5));
+        var r = out.results().get(0);
+        assertEquals(1, r.days());
+        assertEquals(1, r.earlyDays());
+        assertEquals(180, r.gapMinutes());
+    }
+
+    @Test
+    void topKMatchesExhaustiveSearch() {
+        Random rnd = new Random(42);
+        for (int round = 0; round < 30; round++) {
+            List<List<CourseCatalog.Entry>> groups = randomGroups(rnd, 2 + rnd.nextInt(4), 1 + rnd.nextInt(5));
+            var out = TimetableGenerator.search(groups, ALL, TEN, 5, Duration.ofSeconds(5));
+            assertTrue(out.complete());
+
+            List<int[]> costs = new ArrayList<>();
+            enumerate(groups, 0, new ArrayList<>(), costs);
+            costs.sort(Arrays::compare);
+
+            assertEquals(Math.min(5, costs.size()), out.results().size());
+            for (int i = 0; i < out.results().size(); i++) {
+                var r = out.results().get(i);
+                assertTrue(conflictFree(r.picks()));
+                assertArrayEquals(costs.get(i), new int[]{r.days(), r.earlyDays(), r.gapMinutes()});
+            }
+        }
+    }
+
+    @Test
+    void respectsTimeBudget() {
+        // 12^10 조합: 예산 안에 끝까지 탐색할 수 없는 크기
+        Random rnd = new Random(7);
+        List<List<CourseCatalog.Entry>> groups = randomGroups(rnd, 10, 12);
+        var out = TimetableGenerator.search(groups, ALL, TEN, 10, Duration.ofMillis(50));
+        assertFalse(out.complete());
+        assertTrue(out.results().size() <= 10);
+        for (var r : out.results()) assertTrue(conflictFree(r.picks()));
+    }
+
+    private static List<List<CourseCatalog.Entry>> randomGroups(Random rnd, int courses, int sections) {
+        List<List<CourseCatalog.Entry>> groups = new ArrayList<>();
+        for (int c = 0; c < courses; c++) {
+            List<CourseCatalog.Entry> list = new ArrayList<>();
+            for (int s = 0; s < sections; s++) {
+                int n = 1 + rnd.nextInt(2);
+                CourseCatalog.Slot[] slots = new CourseCatalog.Slot[n];
+                for (int i = 0; i < n; i++) {
+                    DayOfWeek d = DayOfWeek.of(1 + rnd.nextInt(5));
+                    LocalTime start = LocalTime.of(9 + rnd.nextInt(9), rnd.nextBoolean() ? 0 : 30);
+                    slots[i] = new CourseCatalog.Slot(d, start, start.plusMinutes(75), null);
+                }
+                list.add(section("C" + c, slots));
+            }
+            groups.add(list);
+        }
+        return groups;
+    }
+
+    private static void enumerate(List<List<CourseCatalog.Entry>> groups, int i,
+                                  List<CourseCatalog.Entry> picked, List<int[]> out) {
+        if (i == groups.size()) {
+            if (!conflictFree(picked)) return;
+            WeeklySlotMask.Builder b = WeeklySlotMask.builder();
+            int days = 0, early = 0;
+            for (var e : picked) {
+                for (var s : e.slots()) {
+                    b.add(s.dayOfWeek(), s.startTime(), s.endTime());
+                    days |= 1 << s.dayOfWeek().ordinal();
+                    if (s.startTime().isBefore(TEN)) early |= 1 << s.dayOfWeek().ordinal();
+                }
+            }
+            int gaps = TimetableGenerator.gapMinutes(b.build().toLongArray());
+            out.add(new int[]{Integer.bitCount(days), Integer.bitCount(early), gaps});
+            return;
+        }
+        for (var e : groups.get(i)) {
+            picked.add(e);
+            enumerate(groups, i + 1, picked, out);
+            picked.remove(picked.size() - 1);
+        }
+    }
+}
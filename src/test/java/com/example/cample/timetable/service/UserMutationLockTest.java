@@ -0,0 +1,191 @@
+package com.example.cample.timetable.service;
+
+import com.example.cample.calendar.service.CalendarService;
+import com.example.cample.common.exception.ApiException;
+import com.example.cample.course.service.CourseCatalogService;
+import com.example.cample.course.service.CourseLookupCache;
+import com.example.cample.timetable.domain.TimetableItem;
+import com.example.cample.timetable.repo.TimetableCalendarMapRepository;
+import com.example.cample.timetable.repo.TimetableItemRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class UserMutationLockTest {
+
+    // 중복/충돌 검사 → 쓰기 사이의 경쟁을 흉내: 검사 통과 후 잠깐 쉬었다가 기록
+    private static final class FakeTimetable {
+        final Set<Long> rows = ConcurrentHashMap.newKeySet();
+        final AtomicInteger writes = new AtomicInteger();
+        final AtomicInteger duplicates = new AtomicInteger();
+
+        boolean tryAdd(long userId, long courseId) {
+            long key = userId * 1_000_000 + courseId;
+            if (rows.contains(key)) return false;
+            sleep(2);                        // 일정 생성 등 무거운 작업
+            writes.incrementAndGet();
+            if (!rows.add(key)) duplicates.incrementAndGet();   // 유니크 제약 위반에 해당
+            return true;
+        }
+    }
+
+    @Test
+    void sameUserMutationsAreSerialized() throws Exception {
+        UserMutationLock lock = new UserMutationLock(64, Duration.ofSeconds(10));
+        FakeTimetable tt = new FakeTimetable();
+        AtomicInteger inside = new AtomicInteger();
+        AtomicInteger maxInside = new AtomicInteger();
+
+        runConcurrently(16, i -> lock.run(7L, () -> {
+            maxInside.accumulateAndGet(inside.incrementAndGet(), Math::max);
+            tt.tryAdd(7L, 100L);
+            inside.decrementAndGet();
+            return null;
+        }));
+
+        assertEquals(1, maxInside.get());
+        assertEquals(1, tt.writes.get());
+        assertEquals(0, tt.duplicates.get());
+    }
+
+    @Test
+    void differentUsersRunInParallel() throws Exception {
+        UserMutationLock lock = new UserMutationLock(1024, Duration.ofSeconds(10));
+        CountDownLatch bothInside = new CountDownLatch(2);
+        // 두 사용자가 동시에 임계 구역 안에 있어야만 통과(직렬화되면 타임아웃)
+        runConcurrently(2, i -> lock.run((long) i, () -> {
+            bothInside.countDown();
+            try {
+                assertTrue(bothInside.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                throw new IllegalStateException(e);
+            }
+            return null;
+        }));
+    }
+
+    @Test
+    void waitingTooLongIsRejected() throws Exception {
+        UserMutationLock lock = new UserMutationLock(16, Duration.ofMillis(50));
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = new Thread(() -> lock.run(1L, () -> {
+            held.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        }));
+        holder.start();
+        held.await();
+
+        ApiException ex = assertThrows(ApiException.class, () -> lock.run(1L, () -> null));
+        assertEquals(HttpStatus.TOO_MANY_REQUESTS, ex.getStatus());
+
+        release.countDown();
+        holder.join();
+        assertEquals("ok", lock.run(1L, () -> "ok"));
+    }
+
+    // 등록 기간 부하: 사용자 N명이 각자 같은 과목을 여러 번 담는다
+    @Test
+    void registrationSpikeWritesOncePerUser() throws Exception {
+        int users = 200, perUser = 5;
+        UserMutationLock lock = new UserMutationLock(1024, Duration.ofSeconds(30));
+        FakeTimetable tt = new FakeTimetable();
+
+        runConcurrently(users * perUser, i -> lock.run((long) (i % users), () -> tt.tryAdd(i % users, 100L)));
+
+        assertEquals(users, tt.writes.get());
+        assertEquals(0, tt.duplicates.get());
+    }
+
+    // TimetableService 의 변경은 락 → 트랜잭션 시작 → 쓰기 → 커밋 → 락 해제 순서여야 한다
+    @Test
+    void timetableServiceCommitsBeforeUnlocking() {
+        List<String> events = new ArrayList<>();
+        UserMutationLock lock = new UserMutationLock(16, Duration.ofSeconds(1)) {
+            @Override
+            public <T> T run(Long userId, Supplier<T> action) {
+                events.add("lock");
+                try {
+                    return super.run(userId, action);
+                } finally {
+                    events.add("unlock");
+                }
+            }
+        };
+        TransactionTemplate tx = mock(TransactionTemplate.class);
+        when(tx.execute(any())).thenAnswer(inv -> {
+            events.add("begin");
+            TransactionCallback<?> cb = inv.getArgument(0);
+            Object result = cb.doInTransaction(null);
+            events.add("commit");
+            return result;
+        });
+
+        TimetableItemRepository itemRepo = mock(TimetableItemRepository.class);
+        when(itemRepo.findAllById(any())).thenReturn(List.of(TimetableItem.builder().id(5L).userId(7L).build()));
+        TimetableSummaryService summaryService = mock(TimetableSummaryService.class);
+        when(summaryService.refresh(7L)).thenAnswer(inv -> {
+            assertTrue(lock.isHeldByCurrentThread(7L));
+            events.add("write");
+            return null;
+        });
+
+        TimetableService service = new TimetableService(itemRepo, mock(TimetableCalendarMapRepository.class),
+                mock(CourseLookupCache.class), mock(CalendarService.class), summaryService,
+                mock(CourseCatalogService.class), lock, tx);
+        service.remove(7L, 5L);
+
+        assertEquals(List.of("lock", "begin", "write", "commit", "unlock"), events);
+        assertFalse(lock.isHeldByCurrentThread(7L));
+    }
+
+    private interface Task {
+        Object call(int i) throws Exception;
+    }
+
+    private static void runConcurrently(int n, Task task) throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(Math.min(n, 64));
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<?>> fs = new ArrayList<>();
+            for (int i = 0; i < n; i++) {
+                int idx = i;
+                fs.add(pool.submit(() -> {
+                    start.await();
+                    return task.call(idx);
+                }));
+            }
+            start.countDown();
+            for (Future<?> f : fs) f.get(30, TimeUnit.SECONDS);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}